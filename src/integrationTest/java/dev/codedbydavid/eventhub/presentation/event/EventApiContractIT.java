@@ -0,0 +1,414 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.util.UriBuilder;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.emptyOrNullString;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * The event API scenarios both web stacks serve, run by {@link ServletEventApiIT} and {@link ReactiveEventApiIT}
+ * over HTTP against a running server on PostgreSQL, so each response (status, headers, error payload) is checked
+ * the same way on both. Servlet-only features are covered by {@link EventControllerIT}.
+ */
+@Testcontainers
+abstract class EventApiContractIT {
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine")
+            .withDatabaseName("eventhub")
+            .withUsername("eventhub")
+            .withPassword("eventhub");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+    }
+
+    @Test
+    void crud_happy_path() throws Exception {
+        Instant startsAt = Instant.now().plusSeconds(3600);
+        Instant endsAt = startsAt.plusSeconds(3600);
+
+        byte[] postBody = client.post().uri("/api/v1/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventJson("My Event", startsAt, endsAt))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.id").isNotEmpty()
+                .jsonPath("$.title").isEqualTo("My Event")
+                .returnResult()
+                .getResponseBody();
+
+        UUID id = UUID.fromString(objectMapper.readTree(postBody).get("id").asText());
+
+        client.get().uri("/api/v1/events/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(id.toString())
+                .jsonPath("$.title").isEqualTo("My Event");
+
+        client.get().uri("/api/v1/events")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$").isArray();
+
+        client.put().uri("/api/v1/events/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventJson("My Event Updated", startsAt, endsAt.plusSeconds(3600)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(id.toString())
+                .jsonPath("$.title").isEqualTo("My Event Updated");
+
+        // A GET after the update must not be answered from a copy cached before it
+        client.get().uri("/api/v1/events/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("My Event Updated");
+
+        client.delete().uri("/api/v1/events/{id}", id)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        client.get().uri("/api/v1/events/{id}", id)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("NOT_FOUND")
+                .jsonPath("$.path").isEqualTo("/api/v1/events/" + id);
+    }
+
+    @Test
+    void list_walks_all_pages_with_cursor() throws Exception {
+        Instant base = Instant.now().plusSeconds(86_400);
+        List<String> createdIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            createdIds.add(createEvent("Paged " + i, base.plusSeconds(i), base.plusSeconds(i + 3600)));
+        }
+
+        List<String> seenIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            String after = cursor;
+            EntityExchangeResult<byte[]> response = client.get()
+                    .uri(uri -> after == null
+                            ? uri.path("/api/v1/events").queryParam("limit", 2).build()
+                            : uri.path("/api/v1/events").queryParam("limit", 2).queryParam("cursor", "{cursor}")
+                                    .build(after))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.length()").value(lessThanOrEqualTo(2))
+                    .returnResult();
+
+            for (JsonNode node : objectMapper.readTree(response.getResponseBody())) {
+                seenIds.add(node.get("id").asText());
+            }
+            cursor = response.getResponseHeaders().getFirst("X-Next-Cursor");
+        } while (cursor != null);
+
+        assertThat(seenIds).doesNotHaveDuplicates().containsAll(createdIds);
+    }
+
+    @Test
+    void list_applies_window_and_title_prefix_filters() throws Exception {
+        Instant windowStart = Instant.parse("2040-03-01T00:00:00Z");
+        String inside = createEvent("Filtered 100% match", windowStart.plusSeconds(3600),
+                windowStart.plusSeconds(7200));
+        String wrongTitle = createEvent("Other", windowStart.plusSeconds(3600), windowStart.plusSeconds(7200));
+        String outside = createEvent("Filtered late", windowStart.plusSeconds(30 * 86_400),
+                windowStart.plusSeconds(30 * 86_400 + 3600));
+
+        byte[] body = client.get()
+                .uri(uri -> uri.path("/api/v1/events")
+                        .queryParam("from", windowStart)
+                        .queryParam("to", windowStart.plusSeconds(86_400))
+                        .queryParam("titlePrefix", "{prefix}")
+                        .build("Filtered 100%"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .returnResult()
+                .getResponseBody();
+
+        List<String> ids = new ArrayList<>();
+        for (JsonNode node : objectMapper.readTree(body)) {
+            ids.add(node.get("id").asText());
+        }
+        assertThat(ids).containsExactly(inside).doesNotContain(wrongTitle, outside);
+
+        client.get()
+                .uri(uri -> uri.path("/api/v1/events")
+                        .queryParam("from", windowStart.plusSeconds(60))
+                        .queryParam("to", windowStart)
+                        .build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("DOMAIN_VALIDATION_ERROR");
+    }
+
+    @Test
+    void conditional_requests_use_strong_etags() throws Exception {
+        Instant startsAt = Instant.parse("2044-03-01T09:00:00Z");
+        String id = createEvent("Conditional", startsAt, startsAt.plusSeconds(3600));
+
+        String etag = client.get().uri("/api/v1/events/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectBody()
+                .returnResult()
+                .getResponseHeaders().getETag();
+
+        client.get().uri("/api/v1/events/{id}", id)
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+
+        String pageEtag = client.get().uri(this::conditionalWindow)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .returnResult()
+                .getResponseHeaders().getETag();
+        client.get().uri(this::conditionalWindow)
+                .header("If-None-Match", pageEtag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        String updateJson = """
+        {
+	        "title": "Conditional v2"
+        }
+        """;
+        client.put().uri("/api/v1/events/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", "\"stale\"")
+                .bodyValue(updateJson)
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("PRECONDITION_FAILED");
+
+        String newEtag = client.put().uri("/api/v1/events/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", etag)
+                .bodyValue(updateJson)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Conditional v2")
+                .returnResult()
+                .getResponseHeaders().getETag();
+        assertThat(newEtag).isNotEqualTo(etag);
+
+        client.get().uri("/api/v1/events/{id}", id)
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", newEtag);
+        client.put().uri("/api/v1/events/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("If-Match", etag)
+                .bodyValue(updateJson)
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        client.get().uri(this::conditionalWindow)
+                .header("If-None-Match", pageEtag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void list_rejects_invalid_cursor_and_limit() {
+        client.get().uri("/api/v1/events?cursor=garbage")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR");
+
+        client.get().uri("/api/v1/events?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR");
+
+        client.get().uri("/api/v1/events?limit=many")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.message").isEqualTo("Invalid request parameter");
+    }
+
+    @Test
+    void validation_missing_title_returns_standard_error_payload() {
+        Instant startsAt = Instant.now().plusSeconds(3600);
+
+        String json = """
+        {
+	        "startsAt": "%s"
+        }
+        """.formatted(startsAt.toString());
+
+        client.post().uri("/api/v1/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(json)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.message").isEqualTo("Validation failed")
+                .jsonPath("$.details").isNotEmpty()
+                .jsonPath("$.path").isEqualTo("/api/v1/events");
+    }
+
+    @Test
+    void malformed_body_returns_invalid_request() {
+        client.post().uri("/api/v1/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                {"title": "Bad date", "startsAt": "tomorrow", "endsAt": "later"}
+                """)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("INVALID_REQUEST")
+                .jsonPath("$.message").isEqualTo("Request body is invalid or malformed")
+                .jsonPath("$.path").isEqualTo("/api/v1/events");
+    }
+
+    @Test
+    void not_found_returns_404_standard_payload() {
+        UUID randomId = UUID.randomUUID();
+
+        byte[] body = client.get().uri("/api/v1/events/{id}", randomId)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("NOT_FOUND")
+                .jsonPath("$.message").isEqualTo("Event not found")
+                .jsonPath("$.details").isNotEmpty()
+                .jsonPath("$.path").isEqualTo("/api/v1/events/" + randomId)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(new String(body)).contains(randomId.toString());
+
+        client.delete().uri("/api/v1/events/{id}", randomId)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    void domain_validation_endsAt_not_after_startsAt_returns_400() {
+        Instant startsAt = Instant.now().plusSeconds(3600);
+
+        client.post().uri("/api/v1/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventJson("Bad Event", startsAt, startsAt))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("DOMAIN_VALIDATION_ERROR")
+                .jsonPath("$.message").isEqualTo("Event validation failed")
+                .jsonPath("$.details").isNotEmpty()
+                .jsonPath("$.path").isEqualTo("/api/v1/events");
+    }
+
+    @Test
+    void correlation_id_is_added_when_missing() {
+        client.get().uri("/api/v1/events")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value("X-Correlation-Id", not(emptyOrNullString()));
+    }
+
+    @Test
+    void correlation_id_is_echoed_when_provided() {
+        client.get().uri("/api/v1/events")
+                .header("X-Correlation-Id", "demo-123")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Correlation-Id", "demo-123");
+    }
+
+    private URI conditionalWindow(UriBuilder uri) {
+        return uri.path("/api/v1/events")
+                .queryParam("from", "2044-03-01T00:00:00Z")
+                .queryParam("to", "2044-03-02T00:00:00Z")
+                .build();
+    }
+
+    private String createEvent(String title, Instant startsAt, Instant endsAt) throws Exception {
+        byte[] body = client.post().uri("/api/v1/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(eventJson(title, startsAt, endsAt))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .returnResult()
+                .getResponseBody();
+        return objectMapper.readTree(body).get("id").asText();
+    }
+
+    private static String eventJson(String title, Instant startsAt, Instant endsAt) {
+        return """
+        {
+	        "title": "%s",
+	        "startsAt": "%s",
+	        "endsAt": "%s"
+        }
+        """.formatted(title, startsAt.toString(), endsAt.toString());
+    }
+}
@@ -3,6 +3,11 @@ import dev.codedbydavid.eventhub.EventHubApiApplication;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,14 +17,20 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.testcontainers.postgresql.PostgreSQLContainer; // updated import
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.io.ByteArrayInputStream;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -29,6 +40,9 @@ import static org.hamcrest.Matchers.*;
 
 import dev.codedbydavid.eventhub.infrastructure.config.CorrelationIdFilter;
 
+/**
+ * Endpoints and behaviour only the servlet stack has. Scenarios both stacks serve run from {@link EventApiContractIT}.
+ */
 @Testcontainers
 @ActiveProfiles("test")
 @SpringBootTest(classes = EventHubApiApplication.class, webEnvironment = SpringBootTest.WebEnvironment.MOCK)
@@ -55,9 +69,18 @@ class EventControllerIT {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CBORMapper cborMapper;
+
+    @Autowired
+    private SmileMapper smileMapper;
+
     @Autowired
     private CorrelationIdFilter correlationIdFilter;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -69,139 +92,512 @@ class EventControllerIT {
     }
 
     @Test
-    void crud_happy_path() throws Exception {
-        Instant startsAt = Instant.now().plusSeconds(3600);
-        Instant endsAt = startsAt.plusSeconds(3600);
+    void list_keeps_open_ended_events_in_later_windows() throws Exception {
+        Instant windowStart = Instant.parse("2040-03-01T00:00:00Z");
+
+        // Without endsAt an event is open-ended: it still overlaps windows that start long after it
+        String openEnded = createEvent("Open-ended", windowStart.minusSeconds(86_400), windowStart.minusSeconds(82_800));
+        mockMvc.perform(patch("/api/v1/events/{id}", openEnded)
+                        .contentType("application/merge-patch+json")
+                        .content("""
+                        {"endsAt": null}
+                        """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/events")
+                        .param("from", windowStart.toString())
+                        .param("to", windowStart.plusSeconds(86_400).toString())
+                        .param("titlePrefix", "Open-ended"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(openEnded));
+    }
 
-        String createJson = """
-	    {
-		    "title": "My Event",
-		    "startsAt": "%s",
-		    "endsAt": "%s"
-	    }
-	    """.formatted(startsAt.toString(), endsAt.toString());
+    @Test
+    void search_ranks_full_text_and_fuzzy_title_matches() throws Exception {
+        Instant startsAt = Instant.now().plusSeconds(3600);
+        String exact = createEvent("Kubernetes Summit Berlin", startsAt, startsAt.plusSeconds(3600));
+        String unrelated = createEvent("Pottery workshop", startsAt, startsAt.plusSeconds(3600));
 
-        String postBody = mockMvc.perform(post("/api/v1/events")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(createJson))
-                .andExpect(status().isCreated())
-                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.id").isNotEmpty())
-                .andExpect(jsonPath("$.title").value("My Event"))
+        String body = mockMvc.perform(get("/api/v1/events/search").param("q", "kubernetes summit"))
+                .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
                 .getContentAsString();
+        List<String> ids = new ArrayList<>();
+        for (JsonNode node : objectMapper.readTree(body)) {
+            ids.add(node.get("id").asText());
+        }
+        assertThat(ids).startsWith(exact).doesNotContain(unrelated);
 
-        JsonNode created = objectMapper.readTree(postBody);
-        UUID id = UUID.fromString(created.get("id").asText());
+        // Misspelt query still finds the event through trigram similarity.
+        mockMvc.perform(get("/api/v1/events/search").param("q", "Kubernets Sumit Berlin"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", hasItem(exact)));
 
-        mockMvc.perform(get("/api/v1/events/{id}", id))
+        mockMvc.perform(get("/api/v1/events/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void sparse_fieldsets_return_only_requested_fields() throws Exception {
+        Instant startsAt = Instant.parse("2041-05-01T09:30:00Z");
+        String id = createEvent("Sparse", startsAt, startsAt.plusSeconds(3600));
+
+        mockMvc.perform(get("/api/v1/events/{id}", id).param("fields", "id,title"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(id.toString()))
-                .andExpect(jsonPath("$.title").value("My Event"));
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.title").value("Sparse"))
+                .andExpect(jsonPath("$.startsAt").doesNotExist())
+                .andExpect(jsonPath("$.createdAt").doesNotExist());
 
-        mockMvc.perform(get("/api/v1/events"))
+        mockMvc.perform(get("/api/v1/events")
+                        .param("from", startsAt.toString())
+                        .param("to", startsAt.toString())
+                        .param("fields", "title,startsAt"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$[0].title").value("Sparse"))
+                .andExpect(jsonPath("$[0].startsAt").value("2041-05-01T09:30:00"))
+                .andExpect(jsonPath("$[0].id").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/events/{id}", id).param("fields", "id,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
 
-        Instant updatedEndsAt = endsAt.plusSeconds(3600);
+    @Test
+    void stats_follow_creates_updates_and_deletes() throws Exception {
+        Instant day1 = Instant.parse("2043-02-10T10:00:00Z");
+        Instant day2 = Instant.parse("2043-02-11T10:00:00Z");
+        createEvent("Stats A", day1, day1.plusSeconds(3600));
+        String moved = createEvent("Stats B", day1, day1.plusSeconds(3600));
+        String removed = createEvent("Stats C", day2, day2.plusSeconds(3600));
 
         String updateJson = """
         {
-	        "title": "My Event Updated",
 	        "startsAt": "%s",
 	        "endsAt": "%s"
         }
-        """.formatted(startsAt.toString(), updatedEndsAt.toString());
-
-        mockMvc.perform(put("/api/v1/events/{id}", id)
+        """.formatted(day2.toString(), day2.plusSeconds(3600).toString());
+        mockMvc.perform(put("/api/v1/events/{id}", moved)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(updateJson))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/events/{id}", removed))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/events/stats")
+                        .param("bucket", "day")
+                        .param("from", "2043-02-10")
+                        .param("to", "2043-02-12"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(id.toString()))
-                .andExpect(jsonPath("$.title").value("My Event Updated"));
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].start").value("2043-02-10"))
+                .andExpect(jsonPath("$[0].count").value(1))
+                .andExpect(jsonPath("$[1].count").value(1))
+                .andExpect(jsonPath("$[2].count").value(0));
+
+        mockMvc.perform(get("/api/v1/events/stats")
+                        .param("bucket", "month")
+                        .param("from", "2043-02-01")
+                        .param("to", "2043-02-28"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].count").value(2));
 
-        mockMvc.perform(delete("/api/v1/events/{id}", id))
-                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/events/stats")
+                        .param("bucket", "hour")
+                        .param("from", "2043-02-01")
+                        .param("to", "2043-02-28"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void merge_patch_changes_only_present_members_and_checks_versions() throws Exception {
+        Instant startsAt = Instant.parse("2044-04-01T09:00:00Z");
+        String id = createEvent("Patchable", startsAt, startsAt.plusSeconds(3600));
+
+        mockMvc.perform(patch("/api/v1/events/{id}", id)
+                        .contentType("application/merge-patch+json")
+                        .content("""
+                        {"title": "Patched", "endsAt": null, "version": 0}
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + id + "-1\""))
+                .andExpect(jsonPath("$.title").value("Patched"))
+                .andExpect(jsonPath("$.startsAt").value("2044-04-01T09:00:00"))
+                .andExpect(jsonPath("$.endsAt").doesNotExist())
+                .andExpect(jsonPath("$.version").value(1));
+
+        // A patch pinned to the version it was based on loses against the concurrent change
+        mockMvc.perform(patch("/api/v1/events/{id}", id)
+                        .contentType("application/merge-patch+json")
+                        .content("""
+                        {"title": "Lost update", "version": 0}
+                        """))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("CONFLICT"));
+
+        mockMvc.perform(patch("/api/v1/events/{id}", id)
+                        .contentType("application/merge-patch+json")
+                        .content("""
+                        {"createdAt": "2044-01-01T00:00:00Z"}
+                        """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
 
         mockMvc.perform(get("/api/v1/events/{id}", id))
-                .andExpect(status().isNotFound())
-                .andExpect(jsonPath("$.code").value("NOT_FOUND"))
-                .andExpect(jsonPath("$.path").value("/api/v1/events/" + id));
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Patched"))
+                .andExpect(jsonPath("$.version").value(1));
     }
 
     @Test
-    void validation_missing_title_returns_standard_error_payload() throws Exception {
-        Instant startsAt = Instant.now().plusSeconds(3600);
+    void bulk_delete_and_shift_report_affected_counts() throws Exception {
+        Instant old = Instant.parse("2020-06-01T10:00:00Z");
+        String oldA = createEvent("Bulk old A", old, old.plusSeconds(3600));
+        createEvent("Bulk old B", old.plusSeconds(86400), old.plusSeconds(90000));
+        Instant late = Instant.parse("2046-01-31T23:30:00Z");
+        String shifted = createEvent("Bulk shift", late, late.plusSeconds(600));
+        String untouched = createEvent("Bulk keep", late.plusSeconds(7200), late.plusSeconds(7800));
+
+        mockMvc.perform(delete("/api/v1/events").param("endsBefore", "2021-01-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2))
+                .andExpect(jsonPath("$.chunks").value(1));
+        mockMvc.perform(get("/api/v1/events/{id}", oldA))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/v1/events:bulkUpdate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                        {"startsFrom": "2046-01-31T00:00:00Z", "startsBefore": "2046-02-01T00:00:00Z", "shiftBy": "PT1H"}
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+        mockMvc.perform(get("/api/v1/events/{id}", shifted))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.startsAt").value("2046-02-01T00:30:00"))
+                .andExpect(jsonPath("$.endsAt").value("2046-02-01T00:40:00"))
+                .andExpect(jsonPath("$.version").value(1));
+        mockMvc.perform(get("/api/v1/events/{id}", untouched))
+                .andExpect(jsonPath("$.version").value(0));
+
+        // The rollup follows the shift across midnight
+        mockMvc.perform(get("/api/v1/events/stats")
+                        .param("bucket", "day")
+                        .param("from", "2046-01-31")
+                        .param("to", "2046-02-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].count").value(0))
+                .andExpect(jsonPath("$[1].count").value(2));
+
+        mockMvc.perform(post("/api/v1/events:bulkUpdate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                        {"startsFrom": "2046-02-01T00:00:00Z", "startsBefore": "2046-01-01T00:00:00Z", "shiftBy": "PT1H"}
+                        """))
+                .andExpect(status().isBadRequest());
+    }
 
+    @Test
+    void idempotency_key_creates_once_and_replays_the_first_response() throws Exception {
         String json = """
         {
-	        "startsAt": "%s"
+          "title": "Idempotent",
+          "startsAt": "2047-01-01T10:00:00Z",
+          "endsAt": "2047-01-01T11:00:00Z"
         }
-        """.formatted(startsAt.toString());
+        """;
+        String key = UUID.randomUUID().toString();
+
+        MvcResult first = mockMvc.perform(post("/api/v1/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Idempotency-Key", key)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
 
         mockMvc.perform(post("/api/v1/events")
                         .contentType(MediaType.APPLICATION_JSON)
+                        .header("Idempotency-Key", key)
                         .content(json))
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
-                .andExpect(jsonPath("$.message").value("Validation failed"))
-                .andExpect(jsonPath("$.details").isNotEmpty())
-                .andExpect(jsonPath("$.path").value("/api/v1/events"));
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(header().string("ETag", first.getResponse().getHeader("ETag")))
+                .andExpect(content().json(first.getResponse().getContentAsString()));
+
+        mockMvc.perform(get("/api/v1/events").param("titlePrefix", "Idempotent"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        mockMvc.perform(post("/api/v1/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Idempotency-Key", key)
+                        .content(json.replace("Idempotent", "Different")))
+                .andExpect(status().is(422))
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
     }
 
     @Test
-    void not_found_returns_404_standard_payload() throws Exception {
-        UUID randomId = UUID.randomUUID();
+    void idempotency_keys_are_scoped_by_client() throws Exception {
+        String json = """
+        {
+          "title": "Scoped key",
+          "startsAt": "2047-02-01T10:00:00Z",
+          "endsAt": "2047-02-01T11:00:00Z"
+        }
+        """;
+        String key = "shared-key";
+
+        for (String client : List.of("it-client-a", "it-client-b")) {
+            mockMvc.perform(post("/api/v1/events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header("X-Api-Key", client)
+                            .header("Idempotency-Key", key)
+                            .content(json))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        }
+        mockMvc.perform(post("/api/v1/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Api-Key", "it-client-b")
+                        .header("Idempotency-Key", key)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
 
-        String body = mockMvc.perform(get("/api/v1/events/{id}", randomId))
-                .andExpect(status().isNotFound())
-                .andExpect(jsonPath("$.code").value("NOT_FOUND"))
-                .andExpect(jsonPath("$.message").value("Event not found"))
-                .andExpect(jsonPath("$.details").isNotEmpty())
-                .andExpect(jsonPath("$.path").value("/api/v1/events/" + randomId))
-                .andReturn()
-                .getResponse()
-                .getContentAsString();
+        mockMvc.perform(get("/api/v1/events").param("titlePrefix", "Scoped key"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
 
-        assertThat(body).contains(randomId.toString());
+    @Test
+    void cbor_and_smile_are_negotiated_for_requests_and_responses() throws Exception {
+        MediaType cbor = MediaType.parseMediaType("application/cbor");
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        byte[] body = cborMapper.writeValueAsBytes(Map.of(
+                "title", "Binary",
+                "startsAt", "2048-01-01T10:00:00Z",
+                "endsAt", "2048-01-01T11:00:00Z"));
+
+        MvcResult created = mockMvc.perform(post("/api/v1/events")
+                        .contentType(cbor)
+                        .accept(cbor)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(cbor))
+                .andExpect(header().string("ETag", endsWith("+cbor\"")))
+                .andReturn();
+        JsonNode event = cborMapper.readTree(created.getResponse().getContentAsByteArray());
+        UUID id = event.get("id").isBinary()
+                ? cborMapper.convertValue(event.get("id"), UUID.class)
+                : UUID.fromString(event.get("id").asText());
+        assertThat(event.get("startsAt").asText()).isEqualTo("2048-01-01T10:00:00");
+
+        MvcResult page = mockMvc.perform(get("/api/v1/events").param("titlePrefix", "Binary").accept(smile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(smile))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn();
+        JsonNode events = smileMapper.readTree(page.getResponse().getContentAsByteArray());
+        assertThat(events.size()).isEqualTo(1);
+        assertThat(events.get(0).get("title").asText()).isEqualTo("Binary");
+
+        String jsonTag = mockMvc.perform(get("/api/v1/events/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader("ETag");
+        String cborTag = mockMvc.perform(get("/api/v1/events/{id}", id).accept(cbor))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(cborTag).isNotEqualTo(jsonTag);
+
+        // A binary tag still pins the version for If-Match
+        mockMvc.perform(put("/api/v1/events/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("If-Match", cborTag)
+                        .content("{\"title\": \"Binary v2\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(get("/api/v1/events/{id}", UUID.randomUUID()).accept(cbor))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(cbor));
     }
 
     @Test
-    void domain_validation_endsAt_not_after_startsAt_returns_400() throws Exception {
-        Instant startsAt = Instant.now().plusSeconds(3600);
+    void large_list_pages_are_served_gzipped_when_accepted() throws Exception {
+        StringBuilder batch = new StringBuilder("[");
+        for (int i = 0; i < 30; i++) {
+            batch.append(i == 0 ? "" : ",").append("""
+                    {"title": "Gzip page %02d", "startsAt": "2049-01-01T10:%02d:00Z", "endsAt": "2049-01-01T11:%02d:00Z"}
+                    """.formatted(i, i, i));
+        }
+        mockMvc.perform(post("/api/v1/events:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch.append("]").toString()))
+                .andExpect(status().isCreated());
 
-        String json = """
-	    {
-		    "title": "Bad Event",
-		    "startsAt": "%s",
-		    "endsAt": "%s"
-	    }
-	    """.formatted(startsAt.toString(), startsAt.toString());
+        MvcResult plain = mockMvc.perform(get("/api/v1/events").param("titlePrefix", "Gzip page"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andReturn();
 
-        mockMvc.perform(post("/api/v1/events")
+        MvcResult gzipped = mockMvc.perform(get("/api/v1/events").param("titlePrefix", "Gzip page")
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem(containsString("Accept-Encoding"))))
+                .andReturn();
+
+        // A different content coding is a different representation, so it needs its own strong validator
+        String plainTag = plain.getResponse().getHeader("ETag");
+        String gzipTag = gzipped.getResponse().getHeader("ETag");
+        assertThat(gzipTag).isEqualTo(plainTag.substring(0, plainTag.length() - 1) + "+gzip\"");
+        mockMvc.perform(get("/api/v1/events").param("titlePrefix", "Gzip page")
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", gzipTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", gzipTag));
+
+        byte[] compressed = gzipped.getResponse().getContentAsByteArray();
+        assertThat(compressed.length).isLessThan(plain.getResponse().getContentAsByteArray().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getResponse().getContentAsByteArray());
+        }
+    }
+
+    @Test
+    void batch_create_inserts_all_or_reports_every_invalid_item() throws Exception {
+        String batchJson = """
+        [
+	        {"title": "Batch 1", "startsAt": "2045-04-01T10:00:00Z", "endsAt": "2045-04-01T11:00:00Z"},
+	        {"title": "Batch 2", "startsAt": "2045-04-01T12:00:00Z", "endsAt": "2045-04-01T13:00:00Z"},
+	        {"title": "Batch 3", "startsAt": "2045-04-02T10:00:00Z", "endsAt": "2045-04-02T11:00:00Z"}
+        ]
+        """;
+        String body = mockMvc.perform(post("/api/v1/events:batch")
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(json))
+                        .content(batchJson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].title").value("Batch 1"))
+                .andExpect(jsonPath("$[2].title").value("Batch 3"))
+                .andReturn().getResponse().getContentAsString();
+
+        String secondId = objectMapper.readTree(body).get(1).get("id").asText();
+        mockMvc.perform(get("/api/v1/events/{id}", secondId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Batch 2"));
+        mockMvc.perform(get("/api/v1/events/stats")
+                        .param("from", "2045-04-01")
+                        .param("to", "2045-04-02"))
+                .andExpect(jsonPath("$[0].count").value(2))
+                .andExpect(jsonPath("$[1].count").value(1));
+
+        String invalidJson = """
+        [
+	        {"title": "", "startsAt": "2045-05-01T10:00:00Z", "endsAt": "2045-05-01T11:00:00Z"},
+	        {"title": "Fine", "startsAt": "2045-05-01T10:00:00Z", "endsAt": "2045-05-01T11:00:00Z"},
+	        {"title": "No end", "startsAt": "2045-05-01T10:00:00Z"},
+	        {"title": "Fine backwards", "startsAt": "2045-05-01T11:00:00Z", "endsAt": "2045-05-01T10:00:00Z"}
+        ]
+        """;
+        // Bean and domain errors come back together, in one response, by index
+        mockMvc.perform(post("/api/v1/events:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(invalidJson))
                 .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.code").value("DOMAIN_VALIDATION_ERROR"))
-                .andExpect(jsonPath("$.message").value("Event validation failed"))
-                .andExpect(jsonPath("$.details").isNotEmpty())
-                .andExpect(jsonPath("$.path").value("/api/v1/events"));
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
+                .andExpect(jsonPath("$.details").value(containsString("[0].title")))
+                .andExpect(jsonPath("$.details").value(containsString("[2].endsAt")))
+                .andExpect(jsonPath("$.errors[*].index").value(contains(0, 2, 3)))
+                .andExpect(jsonPath("$.errors[0].field").value("title"))
+                .andExpect(jsonPath("$.errors[1].field").value("endsAt"))
+                .andExpect(jsonPath("$.errors[2].field").value(nullValue()))
+                .andExpect(jsonPath("$.errors[2].message").value(startsWith("endsAt must be after startsAt")));
+
+        mockMvc.perform(get("/api/v1/events").param("titlePrefix", "Fine")
+                        .param("from", "2045-05-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
     }
 
     @Test
-    void correlation_id_is_added_when_missing() throws Exception {
-        mockMvc.perform(get("/api/v1/events"))
+    void update_and_delete_take_one_statement_each() throws Exception {
+        Instant startsAt = Instant.parse("2046-06-01T10:00:00Z");
+        String id = createEvent("Round trips", startsAt, startsAt.plusSeconds(3600));
+        // Warm the entity cache, as steady-state PUT traffic would
+        mockMvc.perform(get("/api/v1/events/{id}", id)).andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(put("/api/v1/events/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                        {
+	                        "title": "Round trips v2"
+                        }
+                        """))
                 .andExpect(status().isOk())
-                .andExpect(header().exists("X-Correlation-Id"))
-                .andExpect(header().string("X-Correlation-Id", not(emptyOrNullString()))); // updated
+                .andExpect(jsonPath("$.title").value("Round trips v2"));
+        // UPDATE ... RETURNING; the day did not change, so no rollup upsert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        mockMvc.perform(delete("/api/v1/events/{id}", id))
+                .andExpect(status().isNoContent());
+        // DELETE ... RETURNING plus the rollup decrement
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        mockMvc.perform(delete("/api/v1/events/{id}", id))
+                .andExpect(status().isNotFound());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
     }
 
     @Test
-    void correlation_id_is_echoed_when_provided() throws Exception {
-        mockMvc.perform(get("/api/v1/events")
-                        .header("X-Correlation-Id", "demo-123"))
+    void export_streams_one_json_object_per_line() throws Exception {
+        Instant startsAt = Instant.now().plusSeconds(3600);
+        String id = createEvent("Exported", startsAt, startsAt.plusSeconds(3600));
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
-                .andExpect(header().string("X-Correlation-Id", "demo-123"));
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        List<String> exportedIds = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            exportedIds.add(objectMapper.readTree(line).get("id").asText());
+        }
+        assertThat(exportedIds).contains(id);
+    }
+
+    private String createEvent(String title, Instant startsAt, Instant endsAt) throws Exception {
+        String json = """
+        {
+	        "title": "%s",
+	        "startsAt": "%s",
+	        "endsAt": "%s"
+        }
+        """.formatted(title, startsAt.toString(), endsAt.toString());
+
+        String body = mockMvc.perform(post("/api/v1/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).get("id").asText();
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.EventHubApiApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports a million rows through a real server socket. Runs in its own JVM with a heap far smaller than the
+ * table (see the {@code largeExportTest} task), so it only passes while the export stays constant-memory.
+ */
+@Tag("large-export")
+@Testcontainers
+@ActiveProfiles("test")
+@SpringBootTest(classes = EventHubApiApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EventExportLargeIT {
+
+    private static final int ROWS = 1_000_000;
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine")
+            .withDatabaseName("eventhub")
+            .withUsername("eventhub")
+            .withPassword("eventhub");
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void export_streams_a_million_rows_in_a_small_heap() throws Exception {
+        // Seeded server-side: the rows never pass through this JVM on the way in
+        jdbcTemplate.update("""
+                insert into events (id, title, starts_at, ends_at, created_at, updated_at, version)
+                select gen_random_uuid(), 'Export ' || g, timestamp '2030-01-01' + g * interval '1 minute',
+                       null, now(), now(), 0
+                from generate_series(1, ?) g
+                """, ROWS);
+
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/events/export")).build(),
+                HttpResponse.BodyHandlers.ofLines());
+
+        AtomicLong lines = new AtomicLong();
+        try (Stream<String> body = response.body()) {
+            body.forEach(line -> {
+                if (lines.getAndIncrement() == 0) {
+                    assertThat(line).startsWith("{").contains("\"title\":\"Export ");
+                }
+            });
+        }
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("application/x-ndjson"));
+        assertThat(lines.get()).isEqualTo(ROWS);
+    }
+}
@@ -0,0 +1,13 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.EventHubApiApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// The test bootstrapper picks the web application type from these properties or the classpath (which has both
+// stacks), not from profile files, so the type is repeated here
+@ActiveProfiles({"test", "reactive"})
+@SpringBootTest(classes = EventHubApiApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+class ReactiveEventApiIT extends EventApiContractIT {
+}
@@ -0,0 +1,10 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.EventHubApiApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest(classes = EventHubApiApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ServletEventApiIT extends EventApiContractIT {
+}
@@ -0,0 +1,80 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.benchmark.BenchmarkApplication;
+import dev.codedbydavid.eventhub.benchmark.BenchmarkPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second into PostgreSQL: {@code POST /api/v1/events:batch} (one transaction, JDBC-batched inserts) against
+ * the same rows created one {@code POST /api/v1/events} at a time (one transaction and commit each).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CreateEventsBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private BenchmarkPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private CreateEventUseCase createEventUseCase;
+    private CreateEventsUseCase createEventsUseCase;
+    private List<EventDraft> drafts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = BenchmarkPostgres.start();
+        context = BenchmarkApplication.start(WebApplicationType.NONE, postgres.springArgs());
+        createEventUseCase = context.getBean(CreateEventUseCase.class);
+        createEventsUseCase = context.getBean(CreateEventsUseCase.class);
+
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 9, 0);
+        drafts = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            drafts.add(new EventDraft("Partner feed event " + i, base.plusMinutes(i), base.plusMinutes(i + 60)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batch(Blackhole blackhole) {
+        blackhole.consume(createEventsUseCase.execute(drafts));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void single(Blackhole blackhole) {
+        for (EventDraft draft : drafts) {
+            blackhole.consume(createEventUseCase.execute(draft.title(), draft.startsAt(), draft.endsAt()));
+        }
+    }
+}
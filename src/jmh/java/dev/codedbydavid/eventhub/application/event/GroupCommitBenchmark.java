@@ -0,0 +1,71 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.benchmark.BenchmarkApplication;
+import dev.codedbydavid.eventhub.benchmark.BenchmarkPostgres;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test for {@code POST /api/v1/events} creates from 64 concurrent callers against PostgreSQL, with a commit
+ * (and WAL flush) per create against group commit. Sample mode gives creates/s as well as the latency each caller
+ * sees, including the wait for its batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(64)
+@Fork(1)
+public class GroupCommitBenchmark {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    @Param({"false", "true"})
+    public boolean groupCommit;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private BenchmarkPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private CreateEventUseCase createEventUseCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = BenchmarkPostgres.start();
+        context = BenchmarkApplication.start(WebApplicationType.NONE, BenchmarkApplication.args(postgres.springArgs(),
+                "--eventhub.events.group-commit.enabled=" + groupCommit));
+        createEventUseCase = context.getBean(CreateEventUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public Event create() {
+        long n = sequence.getAndIncrement();
+        LocalDateTime startsAt = BASE.plusMinutes(n % 100_000);
+        return createEventUseCase.execute("Peak create " + n, startsAt, startsAt.plusHours(1));
+    }
+}
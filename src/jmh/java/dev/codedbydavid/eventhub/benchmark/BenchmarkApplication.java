@@ -0,0 +1,43 @@
+package dev.codedbydavid.eventhub.benchmark;
+
+import dev.codedbydavid.eventhub.EventHubApiApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+/**
+ * Starts the real application for benchmarks that measure it end to end, without SQL or startup logging.
+ */
+public final class BenchmarkApplication {
+
+    private static final String[] QUIET = {
+            "--spring.main.banner-mode=off",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=warn"
+    };
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... args) {
+        return start(new Class<?>[0], webApplicationType, args);
+    }
+
+    /**
+     * Same as {@link #start(WebApplicationType, String...)} with benchmark-only configuration classes added.
+     */
+    public static ConfigurableApplicationContext start(Class<?>[] extraSources, WebApplicationType webApplicationType,
+                                                       String... args) {
+        return new SpringApplicationBuilder(EventHubApiApplication.class)
+                .sources(extraSources)
+                .web(webApplicationType)
+                .logStartupInfo(false)
+                .run(Stream.concat(Stream.of(QUIET), Stream.of(args)).toArray(String[]::new));
+    }
+
+    public static String[] args(String[] first, String... more) {
+        return Stream.concat(Stream.of(first), Stream.of(more)).toArray(String[]::new);
+    }
+}
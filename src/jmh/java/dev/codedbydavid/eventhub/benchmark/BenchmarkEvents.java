@@ -0,0 +1,38 @@
+package dev.codedbydavid.eventhub.benchmark;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic, realistically shaped events (all fields set, sub-second timestamps) for in-memory benchmarks.
+ */
+public final class BenchmarkEvents {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private BenchmarkEvents() {
+    }
+
+    public static List<Event> sample(int count) {
+        Random random = new Random(42);
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = BASE.minusDays(30).plusSeconds(i).plusNanos(123_456_000L);
+            events.add(Event.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .title("Spring Meetup #" + i)
+                    .startsAt(BASE.plusHours(i))
+                    .endsAt(BASE.plusHours(i + 2))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusMinutes(5))
+                    .version(i % 4)
+                    .build());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.codedbydavid.eventhub.benchmark;
+
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * A throwaway PostgreSQL (Testcontainers) for database-backed benchmarks, started once per trial.
+ */
+public final class BenchmarkPostgres implements AutoCloseable {
+
+    private final PostgreSQLContainer container;
+
+    private BenchmarkPostgres(PostgreSQLContainer container) {
+        this.container = container;
+    }
+
+    public static BenchmarkPostgres start() {
+        PostgreSQLContainer container = new PostgreSQLContainer("postgres:16-alpine")
+                .withDatabaseName("eventhub")
+                .withUsername("eventhub")
+                .withPassword("eventhub");
+        container.start();
+        return new BenchmarkPostgres(container);
+    }
+
+    /**
+     * Arguments pointing the application at this database, with the schema created on startup.
+     */
+    public String[] springArgs() {
+        return new String[]{
+                "--spring.datasource.url=" + container.getJdbcUrl(),
+                "--spring.datasource.username=" + container.getUsername(),
+                "--spring.datasource.password=" + container.getPassword(),
+                "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create"
+        };
+    }
+
+    public Connection connect() throws SQLException {
+        return DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    @Override
+    public void close() {
+        container.stop();
+    }
+}
@@ -0,0 +1,53 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TokenBucketTable#tryAcquire} from 32 threads at once, either all on one hot client (every CAS contends on
+ * the same bucket) or spread over many clients (contention only on the table). The quota is high enough that every
+ * call takes the allowed path, which is the one on every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class TokenBucketTableBenchmark {
+
+    @Param({"1", "10000"})
+    public int clients;
+
+    private TokenBucketTable table;
+    private String[] clientKeys;
+
+    @Setup
+    public void setUp() {
+        table = new TokenBucketTable(Long.MAX_VALUE / 4, Duration.ofSeconds(1), 100_000, System::nanoTime);
+        clientKeys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            clientKeys[i] = "client-" + i;
+        }
+    }
+
+    @Benchmark
+    public TokenBucketTable.Decision tryAcquire() {
+        return table.tryAcquire(clientKeys[ThreadLocalRandom.current().nextInt(clients)]);
+    }
+}
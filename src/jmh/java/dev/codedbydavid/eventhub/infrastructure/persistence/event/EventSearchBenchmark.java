@@ -0,0 +1,83 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.benchmark.BenchmarkApplication;
+import dev.codedbydavid.eventhub.benchmark.BenchmarkPostgres;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventSearchRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@code GET /api/v1/events/search} at one million rows on PostgreSQL: a common two-word match that ranks
+ * thousands of candidates, a rare word, and a typo that only the trigram index finds. Sample mode reports p50/p99.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class EventSearchBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    // 10 x 7 x 20 combinations, plus one title in 10,000 with a rare word
+    private static final String SEED_SQL = """
+            INSERT INTO events (id, title, starts_at, ends_at, created_at, updated_at, version)
+            SELECT gen_random_uuid(),
+                   (ARRAY['Spring','Java','Kotlin','Postgres','Cloud','Data','Security','Frontend','Mobile','DevOps'])[1 + g % 10]
+                   || ' ' || (ARRAY['Conference','Meetup','Workshop','Summit','Hackathon','Webinar','Bootcamp'])[1 + (g / 10) % 7]
+                   || ' ' || CASE WHEN g % 10000 = 0 THEN 'Kubernetes'
+                                  ELSE (ARRAY['Berlin','Lisbon','Paris','Madrid','Rome','Vienna','Prague','Oslo','Dublin',
+                                              'Warsaw','Porto','Lyon','Milan','Munich','Zurich','Geneva','Seville',
+                                              'Krakow','Bergen','Cork'])[1 + (g / 70) % 20] END
+                   || ' ' || (g % 100),
+                   timestamp '2030-01-01' + g * interval '1 minute', null, now(), now(), 0
+            FROM generate_series(1, ?) g
+            """;
+
+    @Param({"java meetup", "kubernetes", "kubernets"})
+    public String query;
+
+    private BenchmarkPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private EventSearchRepository searchRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = BenchmarkPostgres.start();
+        context = BenchmarkApplication.start(WebApplicationType.NONE, postgres.springArgs());
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(SEED_SQL, ROWS);
+        jdbcTemplate.execute("ANALYZE events");
+        searchRepository = context.getBean(EventSearchRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public List<Event> search() {
+        return searchRepository.search(query, 20);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.benchmark.BenchmarkPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput into a UUID primary key that already holds several million rows, for random (v4) against
+ * time-ordered ({@link UuidV7Generator}) ids. At the end of each trial the primary key and table sizes are printed:
+ * random ids leave half-full leaf pages behind every split, time-ordered ids fill pages at the right edge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Param({"v4", "v7"})
+    public String idVersion;
+
+    @Param({"1000000", "5000000"})
+    public int preloadRows;
+
+    private BenchmarkPostgres postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = BenchmarkPostgres.start();
+        connection = postgres.connect();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE id_bench (id uuid PRIMARY KEY, title varchar(255) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO id_bench (id, title) VALUES (?, ?)");
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet sizes = statement.executeQuery("SELECT count(*), pg_relation_size('id_bench_pkey'),"
+                     + " pg_relation_size('id_bench') FROM id_bench")) {
+            sizes.next();
+            System.out.printf("%n%s: %,d rows, primary key %,d MB, table %,d MB%n", idVersion, sizes.getLong(1),
+                    sizes.getLong(2) >> 20, sizes.getLong(3) >> 20);
+        }
+        connection.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insert() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            insert.setObject(1, "v7".equals(idVersion) ? UuidV7Generator.INSTANCE.next() : UUID.randomUUID());
+            insert.setString(2, "Benchmark event");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+}
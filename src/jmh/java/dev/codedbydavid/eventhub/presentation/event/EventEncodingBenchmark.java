@@ -0,0 +1,81 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import dev.codedbydavid.eventhub.benchmark.BenchmarkEvents;
+import dev.codedbydavid.eventhub.infrastructure.config.JacksonConfig;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode time of a 50-event list page per {@link EventEncoding}; the body size of each encoding is
+ * printed in setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventEncodingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    // A String: the generated harness lives in another package and cannot see EventEncoding
+    @Param({"JSON", "CBOR", "SMILE"})
+    public String encodingName;
+
+    private EventEncoding encoding;
+    private List<EventResponse> page;
+    private EventEncodings encodings;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        encoding = EventEncoding.valueOf(encodingName);
+        page = EventResponse.from(BenchmarkEvents.sample(PAGE_SIZE));
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        ObjectMapper objectMapper = jacksonConfig.objectMapper();
+        CBORMapper cborMapper = jacksonConfig.cborMapper();
+        SmileMapper smileMapper = jacksonConfig.smileMapper();
+        encodings = new EventEncodings(objectMapper, cborMapper, smileMapper);
+        ObjectMapper mapper = switch (encoding) {
+            case JSON -> objectMapper;
+            case CBOR -> cborMapper;
+            case SMILE -> smileMapper;
+        };
+        reader = mapper.readerFor(new TypeReference<List<EventResponse>>() {
+        });
+
+        encoded = encode();
+        System.out.printf("%n%s: %,d bytes for %d events%n", encoding, encoded.length, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encodings.events(encoding, page);
+    }
+
+    @Benchmark
+    public List<EventResponse> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
@@ -0,0 +1,68 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.codedbydavid.eventhub.benchmark.BenchmarkEvents;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.infrastructure.config.JacksonConfig;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /api/v1/events/{id}} body rendering for a hot set of events: Jackson on every request (the path without
+ * {@link EventJsonCache}) against a cache hit. Read ns/op next to {@code gc.alloc.rate.norm} (bytes/op).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventJsonCacheBenchmark {
+
+    private static final int HOT_EVENTS = 1000;
+
+    private List<Event> events;
+    private ObjectWriter writer;
+    private EventJsonCache cache;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        writer = objectMapper.writerFor(EventResponse.class);
+        cache = new EventJsonCache(objectMapper, new SimpleMeterRegistry(), 16 * 1024 * 1024);
+        events = BenchmarkEvents.sample(HOT_EVENTS);
+        events.forEach(event -> cache.bytes(event, EventResponse::from));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(EventResponse.from(nextEvent()));
+    }
+
+    @Benchmark
+    public byte[] cached() {
+        return cache.bytes(nextEvent(), EventResponse::from);
+    }
+
+    private Event nextEvent() {
+        Event event = events.get(next);
+        next = (next + 1) % HOT_EVENTS;
+        return event;
+    }
+}
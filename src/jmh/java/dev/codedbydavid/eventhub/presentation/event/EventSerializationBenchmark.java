@@ -0,0 +1,94 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.codedbydavid.eventhub.benchmark.BenchmarkEvents;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.infrastructure.config.JacksonConfig;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A 50-event JSON list page written the way it was before (plain {@code ObjectMapper}, reflective access,
+ * {@code @JsonFormat} pattern formatting, a fresh writer lookup per call) and through {@link EventEncodings}
+ * (Blackbird accessors, {@code EventDateTimeSerializer}, a pre-built {@code ObjectWriter}). Setup fails unless both
+ * produce the same bytes. Read ns/op next to {@code gc.alloc.rate.norm} (bytes/op).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    // EventResponse as it was: dates formatted through the @JsonFormat pattern
+    record PatternFormattedResponse(
+            UUID id,
+            String title,
+            @JsonFormat(pattern = EventResponse.DATE_TIME_PATTERN) LocalDateTime startsAt,
+            @JsonFormat(pattern = EventResponse.DATE_TIME_PATTERN) LocalDateTime endsAt,
+            @JsonFormat(pattern = EventResponse.DATE_TIME_PATTERN) LocalDateTime createdAt,
+            @JsonFormat(pattern = EventResponse.DATE_TIME_PATTERN) LocalDateTime updatedAt,
+            long version) {
+    }
+
+    private List<Event> page;
+    private ObjectMapper plainMapper;
+    private EventEncodings encodings;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        page = BenchmarkEvents.sample(PAGE_SIZE);
+        plainMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        ObjectMapper objectMapper = jacksonConfig.objectMapper();
+        CBORMapper cborMapper = jacksonConfig.cborMapper();
+        SmileMapper smileMapper = jacksonConfig.smileMapper();
+        encodings = new EventEncodings(objectMapper, cborMapper, smileMapper);
+
+        if (!Arrays.equals(patternFormatted(), optimised())) {
+            throw new IllegalStateException("The optimised path no longer writes the same JSON");
+        }
+    }
+
+    @Benchmark
+    public byte[] patternFormatted() throws JsonProcessingException {
+        List<PatternFormattedResponse> responses = new ArrayList<>(page.size());
+        for (Event event : page) {
+            responses.add(new PatternFormattedResponse(event.getId(), event.getTitle(), event.getStartsAt(),
+                    event.getEndsAt(), event.getCreatedAt(), event.getUpdatedAt(), event.getVersion()));
+        }
+        return plainMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] optimised() {
+        return encodings.events(EventEncoding.JSON, EventResponse.from(page));
+    }
+}
@@ -0,0 +1,128 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.application.event.CreateEventUseCase;
+import dev.codedbydavid.eventhub.benchmark.BenchmarkApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /api/v1/events/{id}} over HTTP from 400 concurrent clients against a slow database, served on Tomcat's
+ * platform-thread pool (200 threads) or with the {@code virtual-threads} profile. The database is H2 with a fixed
+ * delay on every connection checkout, held while the connection is in use, like a slow query. The pool is sized
+ * above the client count so that the request threads, not the pool, are what runs out. Sample mode gives p99.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(400)
+@Fork(1)
+public class VirtualThreadsBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"20"})
+    public int dbLatencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] args = {
+                "--server.port=0",
+                "--spring.datasource.hikari.maximum-pool-size=450",
+                "--eventhub.cache.events.enabled=false",
+                "--benchmark.db-latency=" + dbLatencyMillis + "ms"
+        };
+        if ("virtual".equals(threads)) {
+            args = BenchmarkApplication.args(args, "--spring.profiles.active=virtual-threads");
+        }
+        context = BenchmarkApplication.start(new Class<?>[]{InjectedDbLatency.class}, WebApplicationType.SERVLET, args);
+        LocalDateTime startsAt = LocalDateTime.of(2030, 1, 1, 9, 0);
+        UUID id = context.getBean(CreateEventUseCase.class).execute("Slow DB", startsAt, startsAt.plusHours(1)).getId();
+        String port = context.getEnvironment().getProperty("local.server.port");
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/events/" + id)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public String getEvent() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    /**
+     * Not a {@code @Configuration}: component scanning would otherwise pick it up in every benchmark's context.
+     */
+    public static class InjectedDbLatency {
+
+        @Bean
+        static BeanPostProcessor slowDataSource(@Value("${benchmark.db-latency}") Duration latency) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            Connection connection = super.getConnection();
+                            try {
+                                Thread.sleep(latency);
+                            } catch (InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return connection;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
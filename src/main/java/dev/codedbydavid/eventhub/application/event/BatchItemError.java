@@ -0,0 +1,15 @@
+package dev.codedbydavid.eventhub.application.event;
+
+/**
+ * One problem with one item of a batch.
+ *
+ * @param index position of the item in the request
+ * @param field offending attribute, or {@code null} when the item as a whole is invalid (e.g. an invalid time range)
+ */
+public record BatchItemError(int index, String field, String message) {
+
+    @Override
+    public String toString() {
+        return "[" + index + "]" + (field != null ? "." + field : "") + ": " + message;
+    }
+}
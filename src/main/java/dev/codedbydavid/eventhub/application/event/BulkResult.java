@@ -0,0 +1,7 @@
+package dev.codedbydavid.eventhub.application.event;
+
+/**
+ * Outcome of a chunked bulk operation: events affected and the number of transactions it took.
+ */
+public record BulkResult(long affected, int chunks) {
+}
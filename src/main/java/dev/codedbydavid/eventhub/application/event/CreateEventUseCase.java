@@ -2,21 +2,36 @@ package dev.codedbydavid.eventhub.application.event;
 
 import dev.codedbydavid.eventhub.domain.event.Event;
 import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 //import java.util.UUID;
 
 @Service
 public class CreateEventUseCase {
     private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final GroupCommitEventWriter groupCommitWriter;
 
-    public CreateEventUseCase(EventRepository eventRepository) {
+    public CreateEventUseCase(EventRepository eventRepository,
+                              EventStatsRepository eventStatsRepository,
+                              PlatformTransactionManager transactionManager,
+                              GroupCommitEventWriter groupCommitWriter) {
         this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.groupCommitWriter = groupCommitWriter;
     }
 
+    // Programmatic transaction: in group-commit mode the caller must not hold a connection while it waits
     public Event execute(String title, LocalDateTime startsAt, LocalDateTime endsAt) {
-        LocalDateTime now = LocalDateTime.now();
+        // Microseconds is what the database keeps; truncating here keeps ETags stable across reads
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         Event event = Event.builder()
                 .id(null) // Let persistence generate the ID
                 .title(title)
@@ -27,7 +42,13 @@ public class CreateEventUseCase {
                 .build();
 
         event.validate();
-        return eventRepository.save(event);
+        if (groupCommitWriter.isEnabled()) {
+            return groupCommitWriter.write(event);
+        }
+        return transactionTemplate.execute(status -> {
+            Event saved = eventRepository.save(event);
+            eventStatsRepository.incrementDailyCount(saved.getStartsAt().toLocalDate(), 1);
+            return saved;
+        });
     }
 }
-
@@ -0,0 +1,88 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CreateEventsUseCase {
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+
+    public CreateEventsUseCase(EventRepository eventRepository, EventStatsRepository eventStatsRepository) {
+        this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+    }
+
+    /**
+     * Creates all drafts in one transaction, or none: every draft is validated first and all
+     * failures are reported together ({@link InvalidEventBatchException}).
+     */
+    @Transactional
+    public List<Event> execute(List<EventDraft> drafts) {
+        if (drafts.isEmpty() || drafts.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        List<BatchItemError> errors = validate(drafts);
+        if (!errors.isEmpty()) {
+            throw new InvalidEventBatchException(errors);
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Event> events = new ArrayList<>(drafts.size());
+        for (EventDraft draft : drafts) {
+            events.add(toEvent(draft, now));
+        }
+        List<Event> saved = eventRepository.saveAll(events);
+        incrementDailyCounts(eventStatsRepository, saved);
+        return saved;
+    }
+
+    /**
+     * Domain rules of each draft, indexed by position; {@code null} entries (items already rejected by the caller)
+     * are skipped, so callers can merge their own per-item checks into one report.
+     */
+    public List<BatchItemError> validate(List<EventDraft> drafts) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BatchItemError> errors = new ArrayList<>();
+        for (int i = 0; i < drafts.size(); i++) {
+            EventDraft draft = drafts.get(i);
+            if (draft == null) {
+                continue;
+            }
+            try {
+                toEvent(draft, now).validate();
+            } catch (EventValidationException ex) {
+                errors.add(new BatchItemError(i, null, ex.getMessage()));
+            }
+        }
+        return errors;
+    }
+
+    private static Event toEvent(EventDraft draft, LocalDateTime now) {
+        return Event.builder()
+                .title(draft.title())
+                .startsAt(draft.startsAt())
+                .endsAt(draft.endsAt())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    static void incrementDailyCounts(EventStatsRepository eventStatsRepository, List<Event> saved) {
+        // One rollup upsert per distinct day instead of one per event
+        DailyCountDeltas deltas = new DailyCountDeltas();
+        saved.forEach(event -> deltas.add(event.getStartsAt(), 1));
+        deltas.applyTo(eventStatsRepository);
+    }
+}
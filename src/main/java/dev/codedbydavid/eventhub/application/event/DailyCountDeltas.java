@@ -0,0 +1,28 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Accumulates rollup changes of a multi-event write so each day is upserted once. Days are applied in
+ * ascending order, so concurrent bulk writes lock rollup rows in the same order.
+ */
+final class DailyCountDeltas {
+    private final Map<LocalDate, Long> deltas = new TreeMap<>();
+
+    void add(LocalDateTime startsAt, long delta) {
+        deltas.merge(startsAt.toLocalDate(), delta, Long::sum);
+    }
+
+    void applyTo(EventStatsRepository eventStatsRepository) {
+        deltas.forEach((day, delta) -> {
+            if (delta != 0) {
+                eventStatsRepository.incrementDailyCount(day, delta);
+            }
+        });
+    }
+}
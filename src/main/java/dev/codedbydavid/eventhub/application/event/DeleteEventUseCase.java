@@ -1,23 +1,29 @@
 package dev.codedbydavid.eventhub.application.event;
 
+import dev.codedbydavid.eventhub.domain.event.Event;
 import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
 import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Service
 public class DeleteEventUseCase {
     private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
 
-    public DeleteEventUseCase(EventRepository eventRepository) {
+    public DeleteEventUseCase(EventRepository eventRepository, EventStatsRepository eventStatsRepository) {
         this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
     }
 
+    @Transactional
     public void execute(UUID id) {
-        eventRepository.findById(id)
+        Event deletedEvent = eventRepository.deleteById(id)
                 .orElseThrow(() -> new EventNotFoundException(id));
-        eventRepository.deleteById(id);
+        eventStatsRepository.incrementDailyCount(deletedEvent.getStartsAt().toLocalDate(), -1);
     }
 }
 
@@ -0,0 +1,61 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class DeleteEventsEndedBeforeUseCase {
+    private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public DeleteEventsEndedBeforeUseCase(EventRepository eventRepository,
+                                          EventStatsRepository eventStatsRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${eventhub.events.bulk.chunk-size:1000}") int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Deletes every event that ended before {@code endsBefore}, one chunk per transaction. Not atomic as a
+     * whole: if a chunk fails, earlier chunks stay deleted (re-running finishes the job).
+     */
+    public BulkResult execute(LocalDateTime endsBefore) {
+        if (endsBefore == null) {
+            throw new EventValidationException("endsBefore is required");
+        }
+        long deleted = 0;
+        int chunks = 0;
+        while (true) {
+            List<Event> chunk = transactionTemplate.execute(status -> {
+                List<Event> removed = eventRepository.deleteEndedBefore(endsBefore, chunkSize);
+                DailyCountDeltas deltas = new DailyCountDeltas();
+                removed.forEach(event -> deltas.add(event.getStartsAt(), -1));
+                deltas.applyTo(eventStatsRepository);
+                return removed;
+            });
+            if (chunk.isEmpty()) {
+                break;
+            }
+            deleted += chunk.size();
+            chunks++;
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        return new BulkResult(deleted, chunks);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import java.time.LocalDate;
+
+/**
+ * Number of events starting within the bucket beginning on {@code start}.
+ */
+public record EventCountBucket(LocalDate start, long count) {
+}
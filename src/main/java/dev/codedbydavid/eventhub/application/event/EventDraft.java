@@ -0,0 +1,9 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * One event to create in a batch; same inputs as {@link CreateEventUseCase#execute}.
+ */
+public record EventDraft(String title, LocalDateTime startsAt, LocalDateTime endsAt) {
+}
@@ -0,0 +1,16 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+
+import java.util.List;
+
+/**
+ * One page of events plus the cursor to continue from ({@code null} on the last page).
+ */
+public record EventPage(List<Event> events, EventCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Changes to apply to an existing event: {@code null} leaves an attribute as it is,
+ * {@code clearEndsAt} removes the end time.
+ */
+public record EventPatch(String title, LocalDateTime startsAt, LocalDateTime endsAt, boolean clearEndsAt) {
+
+    Event applyTo(Event current, LocalDateTime now) {
+        return Event.builder()
+                .id(current.getId())
+                .title(title != null ? title : current.getTitle())
+                .startsAt(startsAt != null ? startsAt : current.getStartsAt())
+                .endsAt(clearEndsAt ? null : endsAt != null ? endsAt : current.getEndsAt())
+                .createdAt(current.getCreatedAt())
+                .updatedAt(now)
+                .version(current.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package dev.codedbydavid.eventhub.application.event;
+
+public class EventWriteQueueFullException extends RuntimeException {
+    public EventWriteQueueFullException(String message) {
+        super(message);
+    }
+}
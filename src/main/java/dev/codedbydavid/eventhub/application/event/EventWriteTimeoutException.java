@@ -0,0 +1,11 @@
+package dev.codedbydavid.eventhub.application.event;
+
+/**
+ * A create did not commit within the group-commit write timeout. The event may still be written
+ * later, so clients should retry with the same {@code Idempotency-Key}.
+ */
+public class EventWriteTimeoutException extends RuntimeException {
+    public EventWriteTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+public class ExportEventsUseCase {
+    private final EventRepository eventRepository;
+
+    public ExportEventsUseCase(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    public void execute(Consumer<? super Event> sink) {
+        eventRepository.forEachEvent(sink);
+    }
+}
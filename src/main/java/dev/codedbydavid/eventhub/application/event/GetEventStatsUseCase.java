@@ -0,0 +1,49 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.DailyEventCount;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class GetEventStatsUseCase {
+    public static final int MAX_RANGE_DAYS = 3660;
+
+    private final EventStatsRepository eventStatsRepository;
+
+    public GetEventStatsUseCase(EventStatsRepository eventStatsRepository) {
+        this.eventStatsRepository = eventStatsRepository;
+    }
+
+    /**
+     * Returns one bucket per day/week/month overlapping {@code [from, to]} (inclusive), empty buckets included.
+     * Only days inside the range are counted, so the first and last buckets may be partial.
+     */
+    public List<EventCountBucket> execute(StatsBucket bucket, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new EventValidationException("to must not be before from. from: " + from + ", to: " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new EventValidationException("stats range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        // The rollup holds at most one row per day, so folding into coarser buckets here is cheap.
+        List<DailyEventCount> days = eventStatsRepository.findDailyCounts(from, to);
+        List<EventCountBucket> buckets = new ArrayList<>();
+        int next = 0;
+        for (LocalDate start = bucket.startOf(from); !start.isAfter(to); start = bucket.next(start)) {
+            LocalDate end = bucket.next(start);
+            long count = 0;
+            while (next < days.size() && days.get(next).day().isBefore(end)) {
+                count += days.get(next++).count();
+            }
+            buckets.add(new EventCountBucket(start, count));
+        }
+        return buckets;
+    }
+}
@@ -1,10 +1,12 @@
 package dev.codedbydavid.eventhub.application.event;
 
 import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventField;
 import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
 import dev.codedbydavid.eventhub.domain.event.EventRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -19,5 +21,10 @@ public class GetEventUseCase {
         return eventRepository.findById(id)
                 .orElseThrow(() -> new EventNotFoundException(id));
     }
+
+    public Event execute(UUID id, Set<EventField> fields) {
+        return eventRepository.findById(id, fields)
+                .orElseThrow(() -> new EventNotFoundException(id));
+    }
 }
 
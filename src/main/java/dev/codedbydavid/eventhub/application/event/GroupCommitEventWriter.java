@@ -0,0 +1,260 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Group commit for single creates: callers enqueue already validated events and block until the
+ * transaction holding them commits. One writer thread drains the queue into a transaction every
+ * {@code max-batch-size} events or {@code max-delay} after the first one, whichever comes first,
+ * so many requests share one commit (and one WAL flush).
+ * <p>
+ * A batch commits or fails as a whole: a database error fails every request in it. Callers wait at
+ * most {@code write-timeout}; a create still queued by then is dropped, one already in a batch may
+ * still commit. If the writer thread dies (an {@link Error} escaping a commit) its batch fails and a
+ * new writer takes over the queue.
+ * Disabled by default ({@code eventhub.events.group-commit.enabled}); no thread is started then.
+ */
+@Component
+public class GroupCommitEventWriter implements AutoCloseable {
+
+    static final String METRIC_PREFIX = "eventhub.events.group.commit";
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitEventWriter.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private record Pending(Event event, CompletableFuture<Event> result) {
+    }
+
+    private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final int queueCapacity;
+    private final long writeTimeoutNanos;
+
+    // Lock-free queue; the capacity bound is enforced by reserving a slot in depth first
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final DistributionSummary batchSizes;
+    private final Timer commitLatency;
+    private volatile Thread writer;
+    private volatile boolean running;
+    private volatile boolean idle;
+
+    public GroupCommitEventWriter(EventRepository eventRepository,
+                                  EventStatsRepository eventStatsRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${eventhub.events.group-commit.enabled:false}") boolean enabled,
+                                  @Value("${eventhub.events.group-commit.max-batch-size:500}") int maxBatchSize,
+                                  @Value("${eventhub.events.group-commit.max-delay:5ms}") Duration maxDelay,
+                                  @Value("${eventhub.events.group-commit.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${eventhub.events.group-commit.write-timeout:10s}") Duration writeTimeout) {
+        this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queueCapacity = queueCapacity;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", depth, AtomicInteger::get)
+                .description("Creates waiting for the group-commit writer")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("Events per group-commit transaction")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitLatency = Timer.builder(METRIC_PREFIX + ".latency")
+                .description("Time to write and commit one group-commit transaction")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        if (enabled) {
+            this.running = true;
+            this.writer = startWriter();
+        } else {
+            this.writer = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enqueues {@code event} and waits until its batch has committed.
+     *
+     * @throws EventWriteQueueFullException when {@code queue-capacity} creates are already waiting
+     * @throws EventWriteTimeoutException   when the batch has not committed within {@code write-timeout}
+     */
+    public Event write(Event event) {
+        CompletableFuture<Event> result = submit(event);
+        try {
+            return result.get(writeTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            // Dropped if still queued; the writer skips completed entries
+            result.cancel(false);
+            throw new EventWriteTimeoutException("Group commit did not complete within "
+                    + Duration.ofNanos(writeTimeoutNanos));
+        } catch (InterruptedException ex) {
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new EventWriteTimeoutException("Interrupted while waiting for the group commit");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    CompletableFuture<Event> submit(Event event) {
+        if (!running) {
+            throw new EventWriteQueueFullException("Group-commit writer is not running");
+        }
+        int waiting = depth.incrementAndGet();
+        if (waiting > queueCapacity) {
+            depth.decrementAndGet();
+            throw new EventWriteQueueFullException("Group-commit queue is full (" + queueCapacity + " waiting)");
+        }
+        Pending pending = new Pending(event, new CompletableFuture<>());
+        queue.offer(pending);
+        // Only wake the writer when it sleeps with nothing to do, or a full batch is ready
+        if (idle || waiting >= maxBatchSize) {
+            LockSupport.unpark(writer);
+        }
+        return pending.result();
+    }
+
+    private Thread startWriter() {
+        return Thread.ofPlatform().name("event-group-commit").daemon().start(this::runWriter);
+    }
+
+    private void runWriter() {
+        try {
+            drain();
+        } catch (Throwable ex) {
+            // The failed batch has been completed exceptionally; queued creates go to a fresh writer
+            if (running) {
+                log.error("Group-commit writer died, starting a new one", ex);
+                writer = startWriter();
+            }
+        }
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (true) {
+            Pending first = queue.poll();
+            if (first == null) {
+                if (!running) {
+                    return;
+                }
+                idle = true;
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+                continue;
+            }
+            batch.add(first);
+            long deadline = System.nanoTime() + maxDelayNanos;
+            while (batch.size() < maxBatchSize) {
+                Pending next = queue.poll();
+                if (next != null) {
+                    batch.add(next);
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            depth.addAndGet(-batch.size());
+            // Callers that timed out have cancelled their entry
+            batch.removeIf(pending -> pending.result().isDone());
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    private void commit(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        List<Event> events = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            events.add(pending.event());
+        }
+        long start = System.nanoTime();
+        List<Event> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<Event> inserted = eventRepository.saveAll(events);
+                CreateEventsUseCase.incrementDailyCounts(eventStatsRepository, inserted);
+                return inserted;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Group commit of {} events failed", batch.size(), ex);
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+            return;
+        } catch (Error ex) {
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+            throw ex;
+        } finally {
+            commitLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        // Completed only now, after the commit: a 201 never precedes durability
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(saved.get(i));
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(current);
+        // The writer drains what is already queued before it exits
+        current.join(TimeUnit.SECONDS.toMillis(30));
+        Pending leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.result().completeExceptionally(
+                    new EventWriteQueueFullException("Group-commit writer stopped before the event was written"));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import java.util.List;
+
+/**
+ * A batch was rejected as a whole; carries every invalid item, in request order.
+ */
+public class InvalidEventBatchException extends RuntimeException {
+    private final List<BatchItemError> errors;
+
+    public InvalidEventBatchException(List<BatchItemError> errors) {
+        super(errors.stream().map(BatchItemError::toString).reduce((a, b) -> a + ", " + b).orElse(""));
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<BatchItemError> getErrors() {
+        return errors;
+    }
+}
@@ -1,21 +1,49 @@
 package dev.codedbydavid.eventhub.application.event;
 
 import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
 import dev.codedbydavid.eventhub.domain.event.EventRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class ListEventsUseCase {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
     private final EventRepository eventRepository;
 
     public ListEventsUseCase(EventRepository eventRepository) {
         this.eventRepository = eventRepository;
     }
 
-    public List<Event> execute() {
-        return eventRepository.findAll();
+    public EventPage execute(EventFilter filter, EventCursor after, int limit) {
+        return execute(filter, after, limit, EventField.ALL);
     }
-}
 
+    public EventPage execute(EventFilter filter, EventCursor after, int limit, Set<EventField> fields) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        filter.validate();
+
+        // Fetch one extra row to know whether another page exists without a COUNT query.
+        return toPage(eventRepository.findPage(filter, after, limit + 1, fields), limit);
+    }
+
+    /**
+     * The page for {@code rows} fetched with {@code limit + 1}: the extra row only says that another page exists.
+     */
+    static EventPage toPage(List<Event> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new EventPage(rows, null);
+        }
+
+        List<Event> events = rows.subList(0, limit);
+        return new EventPage(events, EventCursor.of(events.get(limit - 1)));
+    }
+}
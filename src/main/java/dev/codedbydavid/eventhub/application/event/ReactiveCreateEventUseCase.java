@@ -0,0 +1,48 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventRepository;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventStatsRepository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * {@link CreateEventUseCase} for the reactive stack: same validation, insert and daily count in one transaction.
+ * No group commit; a pending insert holds no thread here.
+ */
+public class ReactiveCreateEventUseCase {
+    private final ReactiveEventRepository eventRepository;
+    private final ReactiveEventStatsRepository eventStatsRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveCreateEventUseCase(ReactiveEventRepository eventRepository,
+                                      ReactiveEventStatsRepository eventStatsRepository,
+                                      TransactionalOperator transactionalOperator) {
+        this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<Event> execute(String title, LocalDateTime startsAt, LocalDateTime endsAt) {
+        return Mono.fromCallable(() -> {
+                    LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                    Event event = Event.builder()
+                            .title(title)
+                            .startsAt(startsAt)
+                            .endsAt(endsAt)
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .build();
+                    event.validate();
+                    return event;
+                })
+                .flatMap(event -> eventRepository.save(event)
+                        .flatMap(saved -> eventStatsRepository
+                                .incrementDailyCount(saved.getStartsAt().toLocalDate(), 1)
+                                .thenReturn(saved)))
+                .as(transactionalOperator::transactional);
+    }
+}
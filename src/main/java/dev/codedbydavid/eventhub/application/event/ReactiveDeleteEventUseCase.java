@@ -0,0 +1,30 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventRepository;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventStatsRepository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class ReactiveDeleteEventUseCase {
+    private final ReactiveEventRepository eventRepository;
+    private final ReactiveEventStatsRepository eventStatsRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveDeleteEventUseCase(ReactiveEventRepository eventRepository,
+                                      ReactiveEventStatsRepository eventStatsRepository,
+                                      TransactionalOperator transactionalOperator) {
+        this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<Void> execute(UUID id) {
+        return eventRepository.deleteById(id)
+                .switchIfEmpty(Mono.error(() -> new EventNotFoundException(id)))
+                .flatMap(deleted -> eventStatsRepository.incrementDailyCount(deleted.getStartsAt().toLocalDate(), -1))
+                .as(transactionalOperator::transactional);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class ReactiveGetEventUseCase {
+    private final ReactiveEventRepository eventRepository;
+
+    public ReactiveGetEventUseCase(ReactiveEventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    public Mono<Event> execute(UUID id) {
+        return eventRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EventNotFoundException(id)));
+    }
+}
@@ -0,0 +1,27 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ListEventsUseCase} for the reactive stack, full rows only.
+ */
+public class ReactiveListEventsUseCase {
+    private final ReactiveEventRepository eventRepository;
+
+    public ReactiveListEventsUseCase(ReactiveEventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    public Mono<EventPage> execute(EventFilter filter, EventCursor after, int limit) {
+        if (limit < 1 || limit > ListEventsUseCase.MAX_LIMIT) {
+            return Mono.error(new IllegalArgumentException(
+                    "limit must be between 1 and " + ListEventsUseCase.MAX_LIMIT));
+        }
+        return Mono.fromRunnable(filter::validate)
+                .then(eventRepository.findPage(filter, after, limit + 1).collectList())
+                .map(rows -> ListEventsUseCase.toPage(rows, limit));
+    }
+}
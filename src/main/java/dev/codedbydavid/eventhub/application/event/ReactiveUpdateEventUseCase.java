@@ -0,0 +1,65 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventRepository;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventStatsRepository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * {@link UpdateEventUseCase} for the reactive stack, with the same version rules: {@code expectedVersion} must
+ * match, and without it a concurrent change is re-read and the patch re-applied, up to
+ * {@link UpdateEventUseCase#MAX_ATTEMPTS} times. There is no cached copy to lag behind, so the first read is current.
+ */
+public class ReactiveUpdateEventUseCase {
+    private final ReactiveEventRepository eventRepository;
+    private final ReactiveEventStatsRepository eventStatsRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveUpdateEventUseCase(ReactiveEventRepository eventRepository,
+                                      ReactiveEventStatsRepository eventStatsRepository,
+                                      TransactionalOperator transactionalOperator) {
+        this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<Event> execute(UUID id, EventPatch patch, Long expectedVersion) {
+        return attempt(id, patch, expectedVersion, 1).as(transactionalOperator::transactional);
+    }
+
+    private Mono<Event> attempt(UUID id, EventPatch patch, Long expectedVersion, int attempt) {
+        return eventRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EventNotFoundException(id)))
+                .flatMap(current -> {
+                    if (expectedVersion != null && current.getVersion() != expectedVersion) {
+                        return Mono.error(new EventVersionConflictException(id, expectedVersion));
+                    }
+                    Event updatedEvent = patch.applyTo(current, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+                    updatedEvent.validate();
+                    return eventRepository.save(updatedEvent)
+                            .flatMap(saved -> adjustDailyCounts(current, saved).thenReturn(saved))
+                            .onErrorResume(EventVersionConflictException.class, ex ->
+                                    expectedVersion != null || attempt >= UpdateEventUseCase.MAX_ATTEMPTS
+                                            ? Mono.<Event>error(ex)
+                                            : attempt(id, patch, null, attempt + 1));
+                });
+    }
+
+    private Mono<Void> adjustDailyCounts(Event previous, Event saved) {
+        LocalDate previousDay = previous.getStartsAt().toLocalDate();
+        LocalDate currentDay = saved.getStartsAt().toLocalDate();
+        if (previousDay.equals(currentDay)) {
+            return Mono.empty();
+        }
+        return eventStatsRepository.incrementDailyCount(previousDay, -1)
+                .then(eventStatsRepository.incrementDailyCount(currentDay, 1));
+    }
+}
@@ -0,0 +1,29 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventSearchRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SearchEventsUseCase {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final EventSearchRepository eventSearchRepository;
+
+    public SearchEventsUseCase(EventSearchRepository eventSearchRepository) {
+        this.eventSearchRepository = eventSearchRepository;
+    }
+
+    public List<Event> execute(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("query must not be blank");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return eventSearchRepository.search(query.strip(), limit);
+    }
+}
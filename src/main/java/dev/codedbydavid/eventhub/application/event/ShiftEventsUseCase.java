@@ -0,0 +1,89 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class ShiftEventsUseCase {
+    private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ShiftEventsUseCase(EventRepository eventRepository,
+                              EventStatsRepository eventStatsRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${eventhub.events.bulk.chunk-size:1000}") int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    private record Chunk(List<UUID> ids, List<Event> moved) {
+    }
+
+    /**
+     * Moves every event starting in {@code [from, before)} by {@code shift}, one chunk per transaction.
+     * The range is walked by id (keyset), so memory stays bounded by the chunk size, and an event is never
+     * shifted twice even when the shift keeps it inside the range: its id is already behind the walk.
+     * Not atomic as a whole: if a chunk fails, earlier chunks stay shifted.
+     */
+    public BulkResult execute(LocalDateTime from, LocalDateTime before, Duration shift) {
+        validate(from, before, shift);
+
+        long shifted = 0;
+        int chunks = 0;
+        UUID lastId = null;
+        while (true) {
+            UUID afterId = lastId;
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<UUID> ids = eventRepository.findIdsStartingBetween(from, before, afterId, chunkSize);
+                List<Event> moved = eventRepository.shiftStartingBetween(ids, from, before, shift, now);
+                DailyCountDeltas deltas = new DailyCountDeltas();
+                for (Event event : moved) {
+                    deltas.add(event.getStartsAt().minus(shift), -1);
+                    deltas.add(event.getStartsAt(), 1);
+                }
+                deltas.applyTo(eventStatsRepository);
+                return new Chunk(ids, moved);
+            });
+            if (chunk.ids().isEmpty()) {
+                break;
+            }
+            shifted += chunk.moved().size();
+            chunks++;
+            if (chunk.ids().size() < chunkSize) {
+                break;
+            }
+            lastId = chunk.ids().get(chunk.ids().size() - 1);
+        }
+        return new BulkResult(shifted, chunks);
+    }
+
+    private static void validate(LocalDateTime from, LocalDateTime before, Duration shift) {
+        if (from == null || before == null || shift == null) {
+            throw new EventValidationException("startsFrom, startsBefore and shiftBy are required");
+        }
+        if (!before.isAfter(from)) {
+            throw new EventValidationException("startsBefore must be after startsFrom. startsFrom: " + from
+                    + ", startsBefore: " + before);
+        }
+        if (shift.isZero() || shift.toNanosPart() % 1_000 != 0) {
+            throw new EventValidationException("shiftBy must be a non-zero whole number of microseconds");
+        }
+    }
+}
@@ -3,34 +3,82 @@ package dev.codedbydavid.eventhub.application.event;
 import dev.codedbydavid.eventhub.domain.event.Event;
 import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
 import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Service
 public class UpdateEventUseCase {
+    static final int MAX_ATTEMPTS = 3;
+
     private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
 
-    public UpdateEventUseCase(EventRepository eventRepository) {
+    public UpdateEventUseCase(EventRepository eventRepository, EventStatsRepository eventStatsRepository) {
         this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
     }
 
+    @Transactional
     public Event execute(UUID id, String title, LocalDateTime startsAt, LocalDateTime endsAt) {
-        Event existingEvent = eventRepository.findById(id)
+        return execute(id, new EventPatch(title, startsAt, endsAt, false), null);
+    }
+
+    /**
+     * Applies {@code patch} to the event. With {@code expectedVersion} the update only happens while the
+     * event is still at that version, otherwise {@link EventVersionConflictException}. Without it, a
+     * concurrent change is not overwritten: the patch is re-applied to the latest state, up to
+     * {@link #MAX_ATTEMPTS} times.
+     */
+    @Transactional
+    public Event execute(UUID id, EventPatch patch, Long expectedVersion) {
+        Event current = eventRepository.findById(id)
                 .orElseThrow(() -> new EventNotFoundException(id));
+        boolean fresh = false;
+        for (int attempt = 1; ; attempt++) {
+            if (expectedVersion != null && current.getVersion() != expectedVersion) {
+                if (fresh) {
+                    throw new EventVersionConflictException(id, expectedVersion);
+                }
+                // The first read may be a lagging copy; only reject on the latest state
+                current = reload(id);
+                fresh = true;
+                continue;
+            }
 
-        Event.Builder builder = Event.builder()
-                .id(existingEvent.getId())
-                .title(title != null ? title : existingEvent.getTitle())
-                .startsAt(startsAt != null ? startsAt : existingEvent.getStartsAt())
-                .endsAt(endsAt != null ? endsAt : existingEvent.getEndsAt())
-                .createdAt(existingEvent.getCreatedAt())
-                .updatedAt(LocalDateTime.now());
-
-        Event updatedEvent = builder.build();
-        updatedEvent.validate();
-        return eventRepository.save(updatedEvent);
+            Event updatedEvent = patch.applyTo(current, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            updatedEvent.validate();
+            try {
+                Event saved = eventRepository.save(updatedEvent);
+                adjustDailyCounts(current, saved);
+                return saved;
+            } catch (EventVersionConflictException ex) {
+                if (expectedVersion != null || attempt >= MAX_ATTEMPTS) {
+                    throw ex;
+                }
+                current = reload(id);
+                fresh = true;
+            }
+        }
     }
-}
 
+    private Event reload(UUID id) {
+        return eventRepository.findCurrentById(id)
+                .orElseThrow(() -> new EventNotFoundException(id));
+    }
+
+    private void adjustDailyCounts(Event previous, Event saved) {
+        LocalDate previousDay = previous.getStartsAt().toLocalDate();
+        LocalDate currentDay = saved.getStartsAt().toLocalDate();
+        if (!previousDay.equals(currentDay)) {
+            eventStatsRepository.incrementDailyCount(previousDay, -1);
+            eventStatsRepository.incrementDailyCount(currentDay, 1);
+        }
+    }
+}
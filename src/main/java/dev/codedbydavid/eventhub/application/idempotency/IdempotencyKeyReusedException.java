@@ -0,0 +1,7 @@
+package dev.codedbydavid.eventhub.application.idempotency;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key " + key + " was already used with a different request");
+    }
+}
@@ -0,0 +1,16 @@
+package dev.codedbydavid.eventhub.application.idempotency;
+
+import java.time.Instant;
+
+/**
+ * A stored idempotency key. {@code response} is {@code null} while the first request is still in flight;
+ * {@code fingerprint} identifies the request payload the key was first used with, {@code owner} the claim
+ * of the request executing it.
+ */
+public record IdempotencyRecord(String key, String fingerprint, String owner, IdempotentResponse response,
+                                Instant expiresAt) {
+
+    public boolean completed() {
+        return response != null;
+    }
+}
@@ -0,0 +1,305 @@
+package dev.codedbydavid.eventhub.application.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per {@code Idempotency-Key}:
+ * <ul>
+ *   <li>the first request claims the key, executes, and stores its response;</li>
+ *   <li>duplicates arriving while it runs wait for that response instead of executing again
+ *       (on this instance through its future, on other instances by polling the store);</li>
+ *   <li>later duplicates replay the stored response until it expires;</li>
+ *   <li>reusing a key with a different payload is rejected.</li>
+ * </ul>
+ * A failed first request releases the key, so a retry executes again.
+ * <p>
+ * Keys are scoped by client: the same key from two clients names two unrelated requests, so one client can
+ * neither replay nor block another's. The store holds a digest of client and key, which also keeps its key
+ * column at a fixed width.
+ * <p>
+ * A claim is a lease: the owner renews it every third of {@code lease} while its request runs, so a slow
+ * request keeps the key however long it takes, and only a crashed owner's key frees up once the lease
+ * runs out. Each claim carries its own owner token, so a request that did lose its lease (e.g. paused for
+ * longer than the lease) can neither overwrite nor release the key of the request that took it over.
+ */
+public class IdempotencyService implements AutoCloseable {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final long POLL_INTERVAL_MILLIS = 50;
+    private static final int MAX_COMPLETE_ATTEMPTS = 5;
+
+    /**
+     * A response and whether it was replayed rather than produced by this call.
+     */
+    public record Outcome(IdempotentResponse response, boolean replayed) {
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<IdempotentResponse> response) {
+    }
+
+    private final IdempotencyStore store;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration lease;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewer;
+
+    /**
+     * @param ttl         how long completed responses are replayed
+     * @param waitTimeout how long a duplicate waits for the in-flight request
+     * @param lease       how long a claim outlives its owner without renewal; the key is free again after
+     *                    that if the owner never completed it (e.g. crashed). Must exceed {@code waitTimeout}.
+     */
+    public IdempotencyService(IdempotencyStore store, Duration ttl, Duration waitTimeout, Duration lease) {
+        if (lease.compareTo(waitTimeout) <= 0) {
+            throw new IllegalArgumentException("Idempotency lease (" + lease
+                    + ") must be longer than the wait timeout (" + waitTimeout + ")");
+        }
+        this.store = store;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.lease = lease;
+        this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-lease-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Executes {@code action} unless {@code client} already used {@code key}, in which case the first response is
+     * returned.
+     *
+     * @param client  identity of the caller; keys of different clients never meet
+     * @param payload canonical bytes of the request, compared across uses of the same key
+     */
+    public Outcome execute(String client, String key, byte[] payload, Supplier<IdempotentResponse> action) {
+        validate(key);
+        String storeKey = storeKey(client, key);
+        String fingerprint = fingerprint(payload);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight local = inFlight.putIfAbsent(storeKey, mine);
+        if (local != null) {
+            checkFingerprint(key, local.fingerprint(), fingerprint);
+            return new Outcome(await(key, local.response(), deadline), true);
+        }
+        try {
+            Outcome outcome = claimAndExecute(storeKey, key, fingerprint, action, deadline);
+            mine.response().complete(outcome.response());
+            return outcome;
+        } catch (RuntimeException ex) {
+            mine.response().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(storeKey, mine);
+        }
+    }
+
+    private Outcome claimAndExecute(String storeKey, String key, String fingerprint,
+                                    Supplier<IdempotentResponse> action, long deadline) {
+        while (true) {
+            String owner = UUID.randomUUID().toString();
+            Optional<IdempotencyRecord> existing = store.claim(storeKey, fingerprint, owner,
+                    Instant.now().plus(lease));
+            if (existing.isEmpty()) {
+                return new Outcome(executeClaimed(storeKey, key, owner, action), false);
+            }
+
+            IdempotencyRecord record = existing.get();
+            checkFingerprint(key, record.fingerprint(), fingerprint);
+            if (!record.completed()) {
+                // In flight on another instance
+                record = pollUntilSettled(storeKey, key, deadline).orElse(null);
+                if (record == null) {
+                    continue; // released or expired: claim again
+                }
+                checkFingerprint(key, record.fingerprint(), fingerprint);
+            }
+            return new Outcome(record.response(), true);
+        }
+    }
+
+    private IdempotentResponse executeClaimed(String storeKey, String key, String owner,
+                                              Supplier<IdempotentResponse> action) {
+        Claim claim = new Claim(storeKey, key, owner);
+        long renewMillis = Math.max(1, lease.toMillis() / 3);
+        claim.task = renewer.scheduleWithFixedDelay(claim, renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        IdempotentResponse response;
+        try {
+            response = action.get();
+        } catch (RuntimeException ex) {
+            claim.cancel();
+            store.release(storeKey, owner);
+            throw ex;
+        }
+        claim.complete(response);
+        return response;
+    }
+
+    /**
+     * Keeps a claim alive while its request runs, then stores the response, retrying in the background
+     * (and renewing meanwhile) if the store is briefly unavailable, so duplicates keep waiting instead of
+     * re-executing once the lease would have run out.
+     */
+    private final class Claim implements Runnable {
+        private final String storeKey;
+        // The client's key, for logs
+        private final String key;
+        private final String owner;
+        private volatile IdempotentResponse response;
+        private volatile ScheduledFuture<?> task;
+        private int completeAttempts;
+        private boolean settled;
+
+        private Claim(String storeKey, String key, String owner) {
+            this.storeKey = storeKey;
+            this.key = key;
+            this.owner = owner;
+        }
+
+        void complete(IdempotentResponse response) {
+            this.response = response;
+            if (tryComplete()) {
+                cancel();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (response == null) {
+                    if (!store.renew(storeKey, owner, Instant.now().plus(lease))) {
+                        log.warn("Lost the claim on Idempotency-Key {} while its request was running", key);
+                        cancel();
+                    }
+                } else if (tryComplete()) {
+                    cancel();
+                } else {
+                    // The request did happen: keep duplicates waiting while the store is retried
+                    store.renew(storeKey, owner, Instant.now().plus(lease));
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Failed to renew the claim on Idempotency-Key {}", key, ex);
+            }
+        }
+
+        private synchronized boolean tryComplete() {
+            if (settled) {
+                return true;
+            }
+            try {
+                if (!store.complete(storeKey, owner, response, Instant.now().plus(ttl))) {
+                    log.warn("Claim on Idempotency-Key {} was taken over before its response was stored", key);
+                }
+                settled = true;
+            } catch (RuntimeException ex) {
+                settled = ++completeAttempts >= MAX_COMPLETE_ATTEMPTS;
+                log.warn("Failed to store response for Idempotency-Key {} (attempt {} of {})",
+                        key, completeAttempts, MAX_COMPLETE_ATTEMPTS, ex);
+            }
+            return settled;
+        }
+
+        private void cancel() {
+            ScheduledFuture<?> scheduled = task;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+
+    private Optional<IdempotencyRecord> pollUntilSettled(String storeKey, String key, long deadline) {
+        while (true) {
+            Optional<IdempotencyRecord> record = store.find(storeKey);
+            if (record.isEmpty() || record.get().completed()) {
+                return record;
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new IdempotencyKeyInProgressException(key);
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyKeyInProgressException(key);
+            }
+        }
+    }
+
+    private static IdempotentResponse await(String key, CompletableFuture<IdempotentResponse> response, long deadline) {
+        try {
+            return response.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (ExecutionException ex) {
+            // The first request failed; the same payload would fail the same way
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        renewer.shutdownNow();
+    }
+
+    private static void validate(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException("must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x21 || c > 0x7e) {
+                throw new InvalidIdempotencyKeyException("must be printable ASCII without spaces");
+            }
+        }
+    }
+
+    private static void checkFingerprint(String key, String stored, String actual) {
+        if (!stored.equals(actual)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+    }
+
+    static String storeKey(String client, String key) {
+        // Neither part can contain a newline (keys are printable ASCII), so the pair is unambiguous
+        return fingerprint((client + "\n" + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String fingerprint(byte[] payload) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package dev.codedbydavid.eventhub.application.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Storage for idempotency keys. Records past their {@code expiresAt} count as absent.
+ */
+public interface IdempotencyStore {
+    /**
+     * Atomically records {@code key} as in flight for {@code owner} until {@code leaseExpiresAt}, unless it is
+     * already stored. Returns the existing record, or empty when {@code owner} now holds the key.
+     */
+    Optional<IdempotencyRecord> claim(String key, String fingerprint, String owner, Instant leaseExpiresAt);
+
+    /**
+     * Extends the lease of a key still in flight for {@code owner}; {@code false} if the claim was lost.
+     */
+    boolean renew(String key, String owner, Instant leaseExpiresAt);
+
+    /**
+     * Stores the response of a key claimed by {@code owner}, to be replayed until {@code expiresAt}.
+     * Returns {@code false}, storing nothing, if the claim was lost to another owner meanwhile.
+     */
+    boolean complete(String key, String owner, IdempotentResponse response, Instant expiresAt);
+
+    /**
+     * Forgets a key claimed by {@code owner} whose request failed, so a retry executes again.
+     * A claim already lost to another owner is left alone.
+     */
+    void release(String key, String owner);
+
+    Optional<IdempotencyRecord> find(String key);
+
+    /**
+     * Removes records that expired before {@code now}; returns how many.
+     */
+    int purgeExpired(Instant now);
+}
@@ -0,0 +1,8 @@
+package dev.codedbydavid.eventhub.application.idempotency;
+
+/**
+ * The response of a completed idempotent request, as sent the first time: status, ETag (may be
+ * {@code null}) and JSON body.
+ */
+public record IdempotentResponse(int status, String etag, byte[] body) {
+}
@@ -0,0 +1,7 @@
+package dev.codedbydavid.eventhub.application.idempotency;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+    public InvalidIdempotencyKeyException(String reason) {
+        super("Idempotency-Key: " + reason);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.codedbydavid.eventhub.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * Number of events starting on a given (UTC) day.
+ */
+public record DailyEventCount(LocalDate day, long count) {
+}
@@ -10,6 +10,7 @@ public class Event {
     private final LocalDateTime endsAt;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final long version;
 
     private Event(Builder builder) {
         this.id = builder.id;
@@ -18,6 +19,7 @@ public class Event {
         this.endsAt = builder.endsAt;
         this.createdAt = builder.createdAt;
         this.updatedAt = builder.updatedAt;
+        this.version = builder.version;
     }
 
     public UUID getId() {
@@ -44,6 +46,13 @@ public class Event {
         return updatedAt;
     }
 
+    /**
+     * Incremented by every successful update; 0 for a new event.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     public void validate() {
         if (startsAt == null) {
             throw new EventValidationException("startsAt is required");
@@ -66,6 +75,7 @@ public class Event {
         private LocalDateTime endsAt;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        private long version;
 
         public Builder id(UUID id) {
             this.id = id;
@@ -97,6 +107,11 @@ public class Event {
             return this;
         }
 
+        public Builder version(long version) {
+            this.version = version;
+            return this;
+        }
+
         public Event build() {
             return new Event(this);
         }
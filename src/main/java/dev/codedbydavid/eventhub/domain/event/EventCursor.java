@@ -0,0 +1,21 @@
+package dev.codedbydavid.eventhub.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset position in the {@code (startsAt, id)} ordering of events.
+ * A page "after" a cursor starts with the first event strictly greater than it.
+ */
+public record EventCursor(LocalDateTime startsAt, UUID id) {
+
+    public EventCursor {
+        if (startsAt == null || id == null) {
+            throw new IllegalArgumentException("cursor requires both startsAt and id");
+        }
+    }
+
+    public static EventCursor of(Event event) {
+        return new EventCursor(event.getStartsAt(), event.getId());
+    }
+}
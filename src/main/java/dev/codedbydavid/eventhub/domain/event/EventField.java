@@ -0,0 +1,40 @@
+package dev.codedbydavid.eventhub.domain.event;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Attributes of an {@link Event} that a read can be restricted to (sparse fieldsets).
+ * Declaration order is the canonical output order.
+ */
+public enum EventField {
+    ID("id"),
+    TITLE("title"),
+    STARTS_AT("startsAt"),
+    ENDS_AT("endsAt"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+
+    public static final Set<EventField> ALL = Collections.unmodifiableSet(EnumSet.allOf(EventField.class));
+
+    private final String fieldName;
+
+    EventField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public static EventField fromFieldName(String fieldName) {
+        for (EventField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("unknown field: " + fieldName);
+    }
+}
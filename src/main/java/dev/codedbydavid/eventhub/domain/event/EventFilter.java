@@ -0,0 +1,33 @@
+package dev.codedbydavid.eventhub.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional server-side criteria for listing events. A {@code null} criterion is not applied.
+ * <ul>
+ *   <li>{@code from}/{@code to}: the event overlaps the window ({@code endsAt >= from}, {@code startsAt <= to});
+ *       an event without {@code endsAt} is open-ended and matches every {@code from}</li>
+ *   <li>{@code titlePrefix}: the title starts with the given text (case-sensitive)</li>
+ *   <li>{@code createdAfter}/{@code updatedAfter}: strictly after the given instant</li>
+ * </ul>
+ */
+public record EventFilter(LocalDateTime from,
+                          LocalDateTime to,
+                          String titlePrefix,
+                          LocalDateTime createdAfter,
+                          LocalDateTime updatedAfter) {
+
+    public static final EventFilter NONE = new EventFilter(null, null, null, null, null);
+
+    public EventFilter {
+        if (titlePrefix != null && titlePrefix.isEmpty()) {
+            titlePrefix = null;
+        }
+    }
+
+    public void validate() {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new EventValidationException("to must not be before from. from: " + from + ", to: " + to);
+        }
+    }
+}
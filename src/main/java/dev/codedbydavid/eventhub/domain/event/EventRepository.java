@@ -1,16 +1,78 @@
 package dev.codedbydavid.eventhub.domain.event;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface EventRepository {
+    /**
+     * Inserts a new event ({@code null} id) or updates an existing one. An update only applies while the
+     * stored event is still at {@code event.getVersion()}; otherwise {@link EventVersionConflictException}.
+     */
     Event save(Event event);
+
+    /**
+     * Inserts new events (all with a {@code null} id) in as few round trips as the store allows.
+     * Returns them with ids assigned, in the same order.
+     */
+    List<Event> saveAll(List<Event> events);
     
     Optional<Event> findById(UUID id);
+
+    /**
+     * Like {@link #findById(UUID)}, but never answered from a copy that may lag behind the store.
+     */
+    Optional<Event> findCurrentById(UUID id);
+
+    /**
+     * Like {@link #findById(UUID)} but only loads {@code fields} ({@code id}, {@code startsAt} and {@code version}
+     * always are); other attributes are {@code null}.
+     */
+    Optional<Event> findById(UUID id, Set<EventField> fields);
     
-    List<Event> findAll();
+    /**
+     * Returns up to {@code limit} events matching {@code filter}, ordered by {@code (startsAt, id)},
+     * starting right after {@code after} (or from the beginning when {@code null}).
+     * Only {@code fields} are loaded ({@code id}, {@code startsAt} and {@code version} always are); other attributes are {@code null}.
+     */
+    List<Event> findPage(EventFilter filter, EventCursor after, int limit, Set<EventField> fields);
+
+    /**
+     * Visits every event once, in no particular order, without materialising the table.
+     */
+    void forEachEvent(Consumer<? super Event> action);
+
+    /**
+     * Visits every event id once, in no particular order, without materialising the table.
+     */
+    void forEachId(Consumer<? super UUID> action);
     
-    void deleteById(UUID id);
-}
+    /**
+     * Deletes the event and returns it as it was, or empty when there was no such event.
+     */
+    Optional<Event> deleteById(UUID id);
+
+    /**
+     * Deletes up to {@code limit} events that ended before {@code cutoff} in one statement and returns them as
+     * they were. Events without an end never match.
+     */
+    List<Event> deleteEndedBefore(LocalDateTime cutoff, int limit);
 
+    /**
+     * Up to {@code limit} ids of the events starting in {@code [from, before)}, in ascending id order and
+     * after {@code afterId} ({@code null}: from the first), so callers can walk a large range page by page.
+     */
+    List<UUID> findIdsStartingBetween(LocalDateTime from, LocalDateTime before, UUID afterId, int limit);
+
+    /**
+     * Moves start and end of those {@code ids} that still start in {@code [from, before)} by {@code shift},
+     * in one statement, stamping {@code updatedAt} and incrementing their version. Returns them as updated.
+     */
+    List<Event> shiftStartingBetween(Collection<UUID> ids, LocalDateTime from, LocalDateTime before,
+                                     Duration shift, LocalDateTime updatedAt);
+}
@@ -0,0 +1,10 @@
+package dev.codedbydavid.eventhub.domain.event;
+
+import java.util.List;
+
+public interface EventSearchRepository {
+    /**
+     * Returns up to {@code limit} events whose title matches {@code query}, best match first.
+     */
+    List<Event> search(String query, int limit);
+}
@@ -0,0 +1,19 @@
+package dev.codedbydavid.eventhub.domain.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Incrementally maintained per-day event counts (keyed by the day of {@code startsAt}).
+ */
+public interface EventStatsRepository {
+    /**
+     * Adds {@code delta} (may be negative) to the count of {@code day}. Must join the caller's transaction.
+     */
+    void incrementDailyCount(LocalDate day, long delta);
+
+    /**
+     * Returns stored daily counts between {@code from} and {@code to} (both inclusive), ordered by day.
+     */
+    List<DailyEventCount> findDailyCounts(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,9 @@
+package dev.codedbydavid.eventhub.domain.event;
+
+import java.util.UUID;
+
+public class EventVersionConflictException extends RuntimeException {
+    public EventVersionConflictException(UUID id, long expectedVersion) {
+        super("Event " + id + " is no longer at version " + expectedVersion);
+    }
+}
@@ -0,0 +1,32 @@
+package dev.codedbydavid.eventhub.domain.event;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link EventRepository} for the reactive stack, limited to what single-event CRUD and
+ * keyset listing need. Same contracts as the blocking port; calls join the subscriber's reactive transaction.
+ */
+public interface ReactiveEventRepository {
+    /**
+     * Inserts a new event ({@code null} id) or updates an existing one. An update only applies while the
+     * stored event is still at {@code event.getVersion()}; otherwise {@link EventVersionConflictException}
+     * ({@link EventNotFoundException} when it is gone).
+     */
+    Mono<Event> save(Event event);
+
+    Mono<Event> findById(UUID id);
+
+    /**
+     * Up to {@code limit} events matching {@code filter}, ordered by {@code (startsAt, id)}, starting right after
+     * {@code after} (or from the beginning when {@code null}).
+     */
+    Flux<Event> findPage(EventFilter filter, EventCursor after, int limit);
+
+    /**
+     * Deletes the event and emits it as it was, or completes empty when there was no such event.
+     */
+    Mono<Event> deleteById(UUID id);
+}
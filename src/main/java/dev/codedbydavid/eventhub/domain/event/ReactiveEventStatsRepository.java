@@ -0,0 +1,15 @@
+package dev.codedbydavid.eventhub.domain.event;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Write side of {@link EventStatsRepository} for the reactive stack.
+ */
+public interface ReactiveEventStatsRepository {
+    /**
+     * Adds {@code delta} (may be negative) to the count of {@code day}. Must join the subscriber's transaction.
+     */
+    Mono<Void> incrementDailyCount(LocalDate day, long delta);
+}
@@ -0,0 +1,279 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Answers lookups of ids that were never created without calling the delegate, using a Bloom filter
+ * over all event ids. The filter is built in the background on startup and rebuilt periodically to
+ * drop deleted ids; until the first build completes every lookup goes to the delegate.
+ *
+ * <p>Only ids saved through this instance are added between rebuilds. Ids written by another instance
+ * since the last rebuild therefore cannot be rejected by the filter: time-ordered (UUIDv7) ids minted
+ * after the last scan started, less {@code recentIdMargin} for commit latency and clock skew between
+ * instances, always go to the delegate. Ids without a timestamp are trusted to the filter, so with
+ * several writing instances every id must be a UUIDv7.
+ */
+public class BloomFilteredEventRepository implements EventRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BloomFilteredEventRepository.class);
+
+    static final String METRIC_PREFIX = "eventhub.events.id.filter";
+
+    /**
+     * Ids saved while a rebuild scans the table may miss the new filter, so the previous generation
+     * is kept and consulted until the next rebuild, by which time those ids are in the scan.
+     */
+    private record Generation(EventIdBloomFilter current, EventIdBloomFilter previous, long scannedBeforeMillis) {
+        boolean mightContain(UUID id) {
+            return current.mightContain(id) || (previous != null && previous.mightContain(id));
+        }
+
+        /**
+         * Whether {@code id} may have been written after the scan, possibly by another instance.
+         */
+        boolean mayPostdateScan(UUID id) {
+            return id.version() == 7 && (id.getMostSignificantBits() >>> 16) >= scannedBeforeMillis;
+        }
+
+        long memoryBytes() {
+            return current.memoryBytes() + (previous != null ? previous.memoryBytes() : 0);
+        }
+    }
+
+    private enum Check { ABSENT, MIGHT_EXIST, UNCHECKED }
+
+    private final EventRepository delegate;
+    private final long minExpectedInsertions;
+    private final double fpp;
+    private final long recentIdMarginMillis;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService rebuilder;
+    private volatile Generation generation;
+
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositive;
+    private final Counter recent;
+
+    public BloomFilteredEventRepository(EventRepository delegate, long minExpectedInsertions, double fpp,
+                                        Duration recentIdMargin, MeterRegistry meterRegistry) {
+        this(delegate, minExpectedInsertions, fpp, recentIdMargin, System::currentTimeMillis, meterRegistry);
+    }
+
+    BloomFilteredEventRepository(EventRepository delegate, long minExpectedInsertions, double fpp,
+                                 Duration recentIdMargin, LongSupplier clock, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.fpp = fpp;
+        this.recentIdMarginMillis = recentIdMargin.toMillis();
+        this.clock = clock;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-id-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.absent = lookups(meterRegistry, "absent");
+        this.present = lookups(meterRegistry, "present");
+        this.falsePositive = lookups(meterRegistry, "false_positive");
+        this.recent = lookups(meterRegistry, "recent");
+        Gauge.builder(METRIC_PREFIX + ".false.positive.rate", this, BloomFilteredEventRepository::observedFalsePositiveRate)
+                .description("Share of unknown ids that the filter failed to reject")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".expected.fpp", this,
+                        r -> r.generation != null ? r.generation.current().expectedFpp() : Double.NaN)
+                .description("False-positive probability implied by the current filter's fill ratio")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".memory", this,
+                        r -> r.generation != null ? r.generation.memoryBytes() : 0)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the filter now, in the background, and again every {@code interval}.
+     */
+    public void scheduleRebuilds(Duration interval) {
+        rebuilder.scheduleWithFixedDelay(this::rebuildQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Scans all ids into a fresh filter and swaps it in.
+     */
+    public void rebuild() {
+        AtomicLong count = new AtomicLong();
+        Generation old = generation;
+        // Size for at least twice the last population so inserts until the next rebuild keep the rate down
+        long expected = Math.max(minExpectedInsertions, old != null ? old.current().expectedInsertionsHint() * 2 : 0);
+        EventIdBloomFilter fresh = EventIdBloomFilter.create(expected, fpp);
+        long scannedBeforeMillis = clock.getAsLong() - recentIdMarginMillis;
+        delegate.forEachId(id -> {
+            fresh.add(id);
+            count.incrementAndGet();
+        });
+        fresh.recordInsertions(count.get());
+        generation = new Generation(fresh, old != null ? old.current() : null, scannedBeforeMillis);
+        log.debug("Rebuilt event id filter with {} ids ({} bytes)", count.get(), fresh.memoryBytes());
+    }
+
+    @Override
+    public Event save(Event event) {
+        Event saved = delegate.save(event);
+        // Added before the surrounding transaction commits, so no reader can see the row first
+        Generation current = generation;
+        if (current != null) {
+            current.current().add(saved.getId());
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<Event> saved = delegate.saveAll(events);
+        Generation current = generation;
+        if (current != null) {
+            saved.forEach(event -> current.current().add(event.getId()));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Event> findById(UUID id) {
+        Check check = check(id);
+        if (check == Check.ABSENT) {
+            return Optional.empty();
+        }
+        return recordOutcome(check, delegate.findById(id));
+    }
+
+    @Override
+    public Optional<Event> findCurrentById(UUID id) {
+        Check check = check(id);
+        if (check == Check.ABSENT) {
+            return Optional.empty();
+        }
+        return recordOutcome(check, delegate.findCurrentById(id));
+    }
+
+    @Override
+    public Optional<Event> findById(UUID id, Set<EventField> fields) {
+        Check check = check(id);
+        if (check == Check.ABSENT) {
+            return Optional.empty();
+        }
+        return recordOutcome(check, delegate.findById(id, fields));
+    }
+
+    @Override
+    public List<Event> findPage(EventFilter filter, EventCursor after, int limit, Set<EventField> fields) {
+        return delegate.findPage(filter, after, limit, fields);
+    }
+
+    @Override
+    public void forEachEvent(Consumer<? super Event> action) {
+        delegate.forEachEvent(action);
+    }
+
+    @Override
+    public void forEachId(Consumer<? super UUID> action) {
+        delegate.forEachId(action);
+    }
+
+    @Override
+    public Optional<Event> deleteById(UUID id) {
+        Check check = check(id);
+        if (check == Check.ABSENT) {
+            return Optional.empty();
+        }
+        return recordOutcome(check, delegate.deleteById(id));
+    }
+
+    @Override
+    public List<Event> deleteEndedBefore(LocalDateTime cutoff, int limit) {
+        // Deleted ids stay in the filter until the next rebuild, like single deletes
+        return delegate.deleteEndedBefore(cutoff, limit);
+    }
+
+    @Override
+    public List<UUID> findIdsStartingBetween(LocalDateTime from, LocalDateTime before, UUID afterId, int limit) {
+        return delegate.findIdsStartingBetween(from, before, afterId, limit);
+    }
+
+    @Override
+    public List<Event> shiftStartingBetween(Collection<UUID> ids, LocalDateTime from, LocalDateTime before,
+                                            Duration shift, LocalDateTime updatedAt) {
+        return delegate.shiftStartingBetween(ids, from, before, shift, updatedAt);
+    }
+
+    @Override
+    public void close() {
+        rebuilder.shutdownNow();
+    }
+
+    private Check check(UUID id) {
+        Generation current = generation;
+        if (current == null) {
+            return Check.UNCHECKED;
+        }
+        if (current.mayPostdateScan(id)) {
+            recent.increment();
+            return Check.UNCHECKED;
+        }
+        if (!current.mightContain(id)) {
+            absent.increment();
+            return Check.ABSENT;
+        }
+        return Check.MIGHT_EXIST;
+    }
+
+    private Optional<Event> recordOutcome(Check check, Optional<Event> result) {
+        if (check == Check.MIGHT_EXIST) {
+            (result.isPresent() ? present : falsePositive).increment();
+        }
+        return result;
+    }
+
+    private double observedFalsePositiveRate() {
+        double unknown = falsePositive.count() + absent.count();
+        return unknown == 0 ? 0 : falsePositive.count() / unknown;
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            // Keep serving with the previous generation (or none); the next run retries
+            log.warn("Event id filter rebuild failed", ex);
+        }
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("Id lookups by Bloom filter outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,128 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache for single-event lookups in front of another {@link EventRepository}.
+ * Pages, exports and projections go straight to the delegate; writes evict the entry.
+ */
+public class CachingEventRepository implements EventRepository {
+    private final EventRepository delegate;
+    private final Cache<UUID, Event> cache;
+
+    public CachingEventRepository(EventRepository delegate, Cache<UUID, Event> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Event save(Event event) {
+        Event saved;
+        try {
+            saved = delegate.save(event);
+        } catch (EventVersionConflictException ex) {
+            // The caller probably read a stale cached copy; make its retry go to the store
+            cache.invalidate(event.getId());
+            throw ex;
+        }
+        evict(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        // Only new ids, which cannot be cached yet
+        return delegate.saveAll(events);
+    }
+
+    @Override
+    public Optional<Event> findById(UUID id) {
+        // Misses are not cached (the loader returns null), so a freshly created id is never shadowed.
+        return Optional.ofNullable(cache.get(id, key -> delegate.findById(key).orElse(null)));
+    }
+
+    @Override
+    public Optional<Event> findCurrentById(UUID id) {
+        return delegate.findCurrentById(id);
+    }
+
+    @Override
+    public Optional<Event> findById(UUID id, Set<EventField> fields) {
+        // A cached full event satisfies any projection; otherwise keep the narrow query.
+        Event cached = cache.getIfPresent(id);
+        return cached != null ? Optional.of(cached) : delegate.findById(id, fields);
+    }
+
+    @Override
+    public List<Event> findPage(EventFilter filter, EventCursor after, int limit, Set<EventField> fields) {
+        return delegate.findPage(filter, after, limit, fields);
+    }
+
+    @Override
+    public void forEachEvent(Consumer<? super Event> action) {
+        delegate.forEachEvent(action);
+    }
+
+    @Override
+    public void forEachId(Consumer<? super UUID> action) {
+        delegate.forEachId(action);
+    }
+
+    @Override
+    public Optional<Event> deleteById(UUID id) {
+        Optional<Event> deleted = delegate.deleteById(id);
+        evict(id);
+        return deleted;
+    }
+
+    @Override
+    public List<Event> deleteEndedBefore(LocalDateTime cutoff, int limit) {
+        List<Event> deleted = delegate.deleteEndedBefore(cutoff, limit);
+        deleted.forEach(event -> evict(event.getId()));
+        return deleted;
+    }
+
+    @Override
+    public List<UUID> findIdsStartingBetween(LocalDateTime from, LocalDateTime before, UUID afterId, int limit) {
+        return delegate.findIdsStartingBetween(from, before, afterId, limit);
+    }
+
+    @Override
+    public List<Event> shiftStartingBetween(Collection<UUID> ids, LocalDateTime from, LocalDateTime before,
+                                            Duration shift, LocalDateTime updatedAt) {
+        List<Event> shifted = delegate.shiftStartingBetween(ids, from, before, shift, updatedAt);
+        shifted.forEach(event -> evict(event.getId()));
+        return shifted;
+    }
+
+    private void evict(UUID id) {
+        cache.invalidate(id);
+        // A concurrent reader may reload the old committed row before our transaction commits,
+        // so evict once more when it completes.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+}
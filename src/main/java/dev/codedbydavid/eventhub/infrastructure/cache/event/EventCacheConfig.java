@@ -0,0 +1,50 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.infrastructure.persistence.event.EventRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.UUID;
+
+@Configuration
+@EnableConfigurationProperties({EventCacheProperties.class, EventIdFilterProperties.class})
+public class EventCacheConfig {
+
+    static final String CACHE_NAME = "events";
+
+    @Bean
+    @Primary
+    public EventRepository eventRepository(EventRepositoryAdapter adapter,
+                                           EventCacheProperties cacheProperties,
+                                           EventIdFilterProperties idFilterProperties,
+                                           MeterRegistry meterRegistry) {
+        EventRepository repository = adapter;
+        if (cacheProperties.enabled()) {
+            // Caffeine's size bound uses W-TinyLFU, so a burst of one-off ids does not flush the hot set.
+            Cache<UUID, Event> cache = Caffeine.newBuilder()
+                    .maximumSize(cacheProperties.maximumSize())
+                    .expireAfterWrite(cacheProperties.expireAfterWrite())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+            repository = new CachingEventRepository(repository, cache);
+        }
+        if (idFilterProperties.enabled()) {
+            // Outermost, so unknown ids are rejected before they can occupy cache slots
+            BloomFilteredEventRepository filtered = new BloomFilteredEventRepository(repository,
+                    idFilterProperties.expectedInsertions(), idFilterProperties.falsePositiveRate(),
+                    idFilterProperties.recentIdMargin(), meterRegistry);
+            filtered.scheduleRebuilds(idFilterProperties.rebuildInterval());
+            repository = filtered;
+        }
+        return repository;
+    }
+}
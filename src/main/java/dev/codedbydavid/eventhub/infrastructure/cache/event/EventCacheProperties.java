@@ -0,0 +1,19 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * The cache is per instance and only invalidated by writes that instance handles: with several instances, another
+ * instance's update or delete stays invisible to it (stale bodies, stale 304s) for up to {@code expireAfterWrite}.
+ * Hence opt-in.
+ */
+@ConfigurationProperties(prefix = "eventhub.cache.events")
+public record EventCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration expireAfterWrite
+) {
+}
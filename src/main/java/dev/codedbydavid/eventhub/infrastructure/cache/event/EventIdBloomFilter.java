@@ -0,0 +1,107 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.event;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over event ids. Adds and lookups may run concurrently from any thread;
+ * there is no removal, deleted ids only disappear when the filter is rebuilt.
+ */
+final class EventIdBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong bitsSet = new AtomicLong();
+    private volatile long insertionsAtBuild;
+
+    private EventIdBloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) >>> 6));
+        this.bitCount = (long) words.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Sizes the filter so that {@code expectedInsertions} ids give a false-positive rate of about {@code fpp}.
+     */
+    static EventIdBloomFilter create(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new EventIdBloomFilter(bits, hashes);
+    }
+
+    void add(UUID id) {
+        long h1 = h1(id);
+        long h2 = h2(id);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+            if ((word & mask) == 0) {
+                bitsSet.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * {@code false} means the id was definitely never added.
+     */
+    boolean mightContain(UUID id) {
+        long h1 = h1(id);
+        long h2 = h2(id);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * False-positive probability implied by the current fill ratio.
+     */
+    double expectedFpp() {
+        return Math.pow((double) bitsSet.get() / bitCount, hashCount);
+    }
+
+    /**
+     * Remembers how many ids the initial scan added, to size the next generation.
+     */
+    void recordInsertions(long count) {
+        insertionsAtBuild = count;
+    }
+
+    long expectedInsertionsHint() {
+        return insertionsAtBuild;
+    }
+
+    long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    // Kirsch-Mitzenmacher double hashing; both halves come from the 128 random-ish bits of the UUID,
+    // re-mixed so ids with structured bits (e.g. time-ordered ones) still spread evenly.
+    private static long h1(UUID id) {
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    private static long h2(UUID id) {
+        return mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
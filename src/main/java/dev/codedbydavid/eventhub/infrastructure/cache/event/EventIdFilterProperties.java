@@ -0,0 +1,21 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Off by default. Ids written by another application instance are unknown to this instance's filter
+ * until its next rebuild; UUIDv7 ids minted less than {@code recentIdMargin} before the last rebuild
+ * started (or later) therefore always go to the database.
+ */
+@ConfigurationProperties(prefix = "eventhub.cache.event-id-filter")
+public record EventIdFilterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("15m") Duration rebuildInterval,
+        @DefaultValue("1m") Duration recentIdMargin
+) {
+}
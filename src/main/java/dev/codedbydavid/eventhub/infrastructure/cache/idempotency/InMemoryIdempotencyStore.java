@@ -0,0 +1,109 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotencyRecord;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotencyStore;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotentResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Bounded in-process {@link IdempotencyStore}. Keys are only deduplicated within one instance and are
+ * lost on restart; each entry expires at its record's {@code expiresAt}.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    static final String CACHE_NAME = "idempotency-keys";
+
+    private final Cache<String, IdempotencyRecord> cache;
+
+    public InMemoryIdempotencyStore(long maximumKeys, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfter(new UntilExpiresAt())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint, String owner, Instant leaseExpiresAt) {
+        // Expired entries count as absent here too
+        return Optional.ofNullable(cache.asMap()
+                .putIfAbsent(key, new IdempotencyRecord(key, fingerprint, owner, null, leaseExpiresAt)));
+    }
+
+    @Override
+    public boolean renew(String key, String owner, Instant leaseExpiresAt) {
+        boolean[] renewed = new boolean[1];
+        cache.asMap().computeIfPresent(key, (k, record) -> {
+            if (!ownedInFlight(record, owner)) {
+                return record;
+            }
+            renewed[0] = true;
+            return new IdempotencyRecord(k, record.fingerprint(), owner, null, leaseExpiresAt);
+        });
+        return renewed[0];
+    }
+
+    @Override
+    public boolean complete(String key, String owner, IdempotentResponse response, Instant expiresAt) {
+        boolean[] completed = new boolean[1];
+        cache.asMap().computeIfPresent(key, (k, record) -> {
+            if (!ownedInFlight(record, owner)) {
+                return record;
+            }
+            completed[0] = true;
+            return new IdempotencyRecord(k, record.fingerprint(), owner, response, expiresAt);
+        });
+        return completed[0];
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        cache.asMap().computeIfPresent(key, (k, record) -> ownedInFlight(record, owner) ? null : record);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        // Caffeine already drops expired entries during normal operation; this only forces pending maintenance
+        long before = cache.estimatedSize();
+        cache.cleanUp();
+        return (int) Math.max(0, before - cache.estimatedSize());
+    }
+
+    private static boolean ownedInFlight(IdempotencyRecord record, String owner) {
+        return !record.completed() && owner.equals(record.owner());
+    }
+
+    private static final class UntilExpiresAt implements Expiry<String, IdempotencyRecord> {
+        @Override
+        public long expireAfterCreate(String key, IdempotencyRecord record, long currentTime) {
+            return remainingNanos(record);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, IdempotencyRecord record, long currentTime, long currentDuration) {
+            return remainingNanos(record);
+        }
+
+        @Override
+        public long expireAfterRead(String key, IdempotencyRecord record, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long remainingNanos(IdempotencyRecord record) {
+            return Math.max(0, Duration.between(Instant.now(), record.expiresAt()).toNanos());
+        }
+    }
+}
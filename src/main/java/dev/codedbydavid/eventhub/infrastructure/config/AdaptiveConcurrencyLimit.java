@@ -0,0 +1,128 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD concurrency limit driven by observed latency.
+ *
+ * <p>A long-term latency average per route is the baseline: a cheap get-by-id and a 200-row list page are
+ * compared only with their own history, so a shift in the request mix is not mistaken for a slower backend.
+ * A completion slower than its route's {@code baseline * tolerance},
+ * or one that failed with a server error, shrinks the limit by {@code backoffRatio}; any other completion
+ * grows it by {@code 1 / limit} (about one per limit's worth of completions), but only while at least half
+ * of the limit is in use, so an idle endpoint does not inflate it. Only requests that started after the
+ * last decrease can trigger another one, so a burst of slow completions backs off once, not once per request.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    // Weight of each sample in the baseline: roughly the last 100 completions
+    private static final double BASELINE_SMOOTHING = 0.01;
+    // Routes are handler templates, so this only guards against an unexpected source of distinct keys
+    private static final int MAX_ROUTES = 256;
+    private static final String DEFAULT_ROUTE = "";
+    private static final String OTHER_ROUTE = "other";
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    // Guarded by lock
+    private final Map<String, double[]> baselineNanos = new HashMap<>();
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                    double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (tolerance < 1.0 || backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("tolerance must be >= 1 and backoffRatio in (0, 1)");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * @return {@code true} if the caller may proceed; it must then call one of the {@code release} methods
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit and feeds its latency into the limit, for a limit guarding a single kind of request.
+     *
+     * @param overloaded the request failed in a way that signals overload (e.g. a 5xx)
+     */
+    public void release(long startNanos, long endNanos, boolean overloaded) {
+        release(DEFAULT_ROUTE, startNanos, endNanos, overloaded);
+    }
+
+    /**
+     * Releases a permit and feeds its latency into the limit, judged against the baseline of {@code route}.
+     *
+     * @param route      what the request did, e.g. {@code "GET /api/v1/events/{id}"}; should be low-cardinality
+     * @param overloaded the request failed in a way that signals overload (e.g. a 5xx)
+     */
+    public void release(String route, long startNanos, long endNanos, boolean overloaded) {
+        int current = inFlight.getAndDecrement();
+        long latencyNanos = Math.max(0, endNanos - startNanos);
+        lock.lock();
+        try {
+            double[] baseline = baselineNanos.get(route);
+            if (baseline == null) {
+                String key = baselineNanos.size() < MAX_ROUTES ? route : OTHER_ROUTE;
+                baseline = baselineNanos.computeIfAbsent(key, k -> new double[]{latencyNanos});
+            }
+            boolean slow = latencyNanos > baseline[0] * tolerance;
+            baseline[0] += (latencyNanos - baseline[0]) * BASELINE_SMOOTHING;
+
+            double currentLimit = limit;
+            if (overloaded || slow) {
+                if (startNanos >= lastDecreaseNanos) {
+                    limit = Math.max(minLimit, currentLimit * backoffRatio);
+                    lastDecreaseNanos = endNanos;
+                }
+            } else if (current * 2 >= currentLimit) {
+                limit = Math.min(maxLimit, currentLimit + 1.0 / currentLimit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a permit without sampling, for requests whose duration says nothing about backend health
+     * (e.g. a long-lived streaming response).
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,16 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import dev.codedbydavid.eventhub.presentation.client.ClientIdentity;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ClientIdentityProperties.class)
+public class ClientIdentityConfig {
+
+    @Bean
+    public ClientIdentity clientIdentity(ClientIdentityProperties properties) {
+        return new ClientIdentity(properties.header(), properties.apiKeys());
+    }
+}
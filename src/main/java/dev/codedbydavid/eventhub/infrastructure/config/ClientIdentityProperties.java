@@ -0,0 +1,22 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * How callers of {@code /api/v1/events} are told apart (see {@code ClientIdentity}).
+ *
+ * @param header  header carrying the caller's API key
+ * @param apiKeys keys accepted as identities; callers without one of them are keyed by remote address
+ */
+@ConfigurationProperties(prefix = "eventhub.clients")
+public record ClientIdentityProperties(
+        @DefaultValue("X-Api-Key") String header,
+        List<String> apiKeys) {
+
+    public ClientIdentityProperties {
+        apiKeys = apiKeys == null ? List.of() : List.copyOf(apiKeys);
+    }
+}
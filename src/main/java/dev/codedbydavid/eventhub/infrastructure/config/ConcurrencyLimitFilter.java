@@ -0,0 +1,171 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.codedbydavid.eventhub.presentation.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rejects {@code /api/v1/events} requests with 503 once more are in flight than the adaptive limit allows,
+ * so a slow database sheds load quickly instead of queueing requests in Tomcat and Hikari until they time out.
+ * Runs right after {@link CorrelationIdFilter}, so rejections are still logged and correlated.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String PATH_PREFIX = "/api/v1/events";
+    private static final String METRIC_PREFIX = "eventhub.concurrency";
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimit reads;
+    private final AdaptiveConcurrencyLimit writes;
+    private final Counter readRejections;
+    private final Counter writeRejections;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.reads = new AdaptiveConcurrencyLimit(properties.readInitialLimit(), properties.minLimit(),
+                properties.readMaxLimit(), properties.tolerance(), properties.backoffRatio());
+        this.writes = new AdaptiveConcurrencyLimit(properties.writeInitialLimit(), properties.minLimit(),
+                properties.writeMaxLimit(), properties.tolerance(), properties.backoffRatio());
+        this.readRejections = register(meterRegistry, "read", reads);
+        this.writeRejections = register(meterRegistry, "write", writes);
+        this.retryAfterSeconds = Long.toString(Math.max(1, properties.retryAfter().toSeconds()));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        boolean read = isRead(request.getMethod());
+        AdaptiveConcurrencyLimit limit = read ? reads : writes;
+        if (!limit.tryAcquire()) {
+            (read ? readRejections : writeRejections).increment();
+            reject(request, response);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streaming responses (NDJSON export) hold their permit until they finish, but their
+                // duration reflects the client and the data size, not database health
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(limit));
+            } else {
+                limit.release(route(request), startNanos, System.nanoTime(),
+                        failed || response.getStatus() >= 500);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "SERVICE_UNAVAILABLE",
+                "Server is at capacity",
+                "Too many concurrent requests, retry later",
+                Instant.now(),
+                request.getRequestURI());
+
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Method plus the matched handler template (set by MVC during dispatch), so each endpoint keeps its own
+     * latency baseline without one key per id or query string.
+     */
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private static Counter register(MeterRegistry meterRegistry, String operation, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder(METRIC_PREFIX + ".limit", limit, AdaptiveConcurrencyLimit::limit)
+                .tag("operation", operation)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in.flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                .tag("operation", operation)
+                .description("Requests currently holding a permit")
+                .register(meterRegistry);
+        return Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("operation", operation)
+                .description("Requests rejected with 503 because the limit was reached")
+                .register(meterRegistry);
+    }
+
+    private static final class ReleaseOnCompletion implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnCompletion(AdaptiveConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        // onError/onTimeout are followed by onComplete; release only once
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limit.releaseWithoutSample();
+            }
+        }
+    }
+}
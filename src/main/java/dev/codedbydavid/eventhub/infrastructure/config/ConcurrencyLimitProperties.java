@@ -0,0 +1,28 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limits for {@code /api/v1/events}, tracked separately for reads (GET/HEAD) and writes.
+ * Off by default; when enabled, requests over the limit get 503 with {@code Retry-After}.
+ *
+ * @param minLimit     floor both limits back off to
+ * @param tolerance    a completion slower than this multiple of the average latency counts as congestion
+ * @param backoffRatio factor a limit is multiplied by on congestion
+ * @param retryAfter   sent with the 503 on rejection
+ */
+@ConfigurationProperties(prefix = "eventhub.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("50") int readInitialLimit,
+        @DefaultValue("400") int readMaxLimit,
+        @DefaultValue("20") int writeInitialLimit,
+        @DefaultValue("100") int writeMaxLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("2.0") double tolerance,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("1s") Duration retryAfter) {
+}
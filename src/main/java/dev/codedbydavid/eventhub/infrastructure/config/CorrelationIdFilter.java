@@ -3,6 +3,7 @@ package dev.codedbydavid.eventhub.infrastructure.config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -17,12 +18,13 @@ import java.util.UUID;
 import java.util.regex.Pattern;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class CorrelationIdFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(CorrelationIdFilter.class);
 
-    private static final String HEADER_NAME = "X-Correlation-Id";
+    static final String HEADER_NAME = "X-Correlation-Id";
     private static final String MDC_KEY = "correlationId";
 
     private static final int MAX_LEN = 64;
@@ -37,7 +39,7 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
 
         long startNanos = System.nanoTime();
 
-        String correlationId = resolveCorrelationId(request);
+        String correlationId = resolveCorrelationId(request.getHeader(HEADER_NAME));
 
         MDC.put(MDC_KEY, correlationId);
         response.setHeader(HEADER_NAME, correlationId);
@@ -59,8 +61,10 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
         }
     }
 
-    private String resolveCorrelationId(HttpServletRequest request) {
-        String raw = request.getHeader(HEADER_NAME);
+    /**
+     * The caller's id when it is short and safe to log, otherwise a fresh one.
+     */
+    static String resolveCorrelationId(String raw) {
         if (raw == null) {
             return UUID.randomUUID().toString();
         }
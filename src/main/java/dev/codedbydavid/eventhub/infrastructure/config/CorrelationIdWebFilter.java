@@ -0,0 +1,42 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link CorrelationIdFilter} for the reactive stack: same header and request log line. The id is not put in the
+ * MDC, which is thread-bound while a reactive request hops threads; it is logged explicitly instead.
+ */
+public class CorrelationIdWebFilter implements WebFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(CorrelationIdWebFilter.class);
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long startNanos = System.nanoTime();
+        String correlationId = CorrelationIdFilter.resolveCorrelationId(
+                exchange.getRequest().getHeaders().getFirst(CorrelationIdFilter.HEADER_NAME));
+        exchange.getResponse().getHeaders().set(CorrelationIdFilter.HEADER_NAME, correlationId);
+
+        return chain.filter(exchange).doFinally(signal -> {
+            long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+            // One line per request. No body, no cookies, no Authorization.
+            log.info("request method={} path={} status={} durationMs={} correlationId={}",
+                    exchange.getRequest().getMethod(),
+                    exchange.getRequest().getPath().value(),
+                    exchange.getResponse().getStatusCode(),
+                    durationMs,
+                    correlationId);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
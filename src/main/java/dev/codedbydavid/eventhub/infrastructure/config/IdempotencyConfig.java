@@ -0,0 +1,41 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import dev.codedbydavid.eventhub.application.idempotency.IdempotencyService;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotencyStore;
+import dev.codedbydavid.eventhub.infrastructure.cache.idempotency.InMemoryIdempotencyStore;
+import dev.codedbydavid.eventhub.infrastructure.persistence.DatabasePlatform;
+import dev.codedbydavid.eventhub.infrastructure.persistence.idempotency.JdbcIdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties,
+                                             ObjectProvider<JdbcTemplate> jdbcTemplate,
+                                             ObjectProvider<DatabasePlatform> databasePlatform,
+                                             MeterRegistry meterRegistry) {
+        return switch (properties.store()) {
+            case "memory" -> new InMemoryIdempotencyStore(properties.maximumKeys(), meterRegistry);
+            case "jdbc" -> {
+                JdbcIdempotencyStore store = new JdbcIdempotencyStore(jdbcTemplate.getObject(),
+                        databasePlatform.getObject());
+                store.schedulePurge(properties.purgeInterval());
+                yield store;
+            }
+            default -> throw new IllegalStateException(
+                    "eventhub.idempotency.store must be memory or jdbc, got " + properties.store());
+        };
+    }
+
+    @Bean
+    public IdempotencyService idempotencyService(IdempotencyStore idempotencyStore, IdempotencyProperties properties) {
+        return new IdempotencyService(idempotencyStore, properties.ttl(), properties.waitTimeout(), properties.lease());
+    }
+}
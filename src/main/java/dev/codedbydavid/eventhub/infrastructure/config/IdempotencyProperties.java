@@ -0,0 +1,27 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code Idempotency-Key} handling for {@code POST /api/v1/events}.
+ *
+ * @param store        {@code memory} (per instance, bounded by {@code maximumKeys}) or {@code jdbc} (shared table)
+ * @param ttl          how long a completed response is replayed
+ * @param waitTimeout  how long a duplicate waits for the in-flight original before getting 409
+ * @param lease        how long a claim survives without renewal (its owner renews it while the request runs);
+ *                     bounds how long a crashed owner's key stays blocked. Must exceed {@code waitTimeout}
+ * @param maximumKeys  bound of the in-memory store
+ * @param purgeInterval how often the jdbc store deletes expired keys
+ */
+@ConfigurationProperties(prefix = "eventhub.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("memory") String store,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("10s") Duration waitTimeout,
+        @DefaultValue("30s") Duration lease,
+        @DefaultValue("100000") long maximumKeys,
+        @DefaultValue("1h") Duration purgeInterval) {
+}
@@ -0,0 +1,46 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes bodies in a binary Jackson format (CBOR, Smile) with the given mapper, so request DTOs, sparse
+ * bodies and error payloads work in those encodings just like in JSON.
+ */
+public class JacksonBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final ObjectMapper mapper;
+
+    public JacksonBinaryHttpMessageConverter(ObjectMapper mapper, MediaType mediaType) {
+        super(mediaType);
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        // Raw bodies are left to the byte[]/String converters
+        return clazz != byte[].class && clazz != String.class;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return mapper.readValue(inputMessage.getBody(), clazz);
+        } catch (JacksonException ex) {
+            throw new HttpMessageNotReadableException("Malformed " + getSupportedMediaTypes().get(0) + " body: "
+                    + ex.getOriginalMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        mapper.writeValue(outputMessage.getBody(), value);
+    }
+}
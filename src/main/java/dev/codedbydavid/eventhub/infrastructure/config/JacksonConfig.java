@@ -3,7 +3,10 @@ package dev.codedbydavid.eventhub.infrastructure.config;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -14,11 +17,29 @@ public class JacksonConfig {
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        return configure(new ObjectMapper());
+    }
+
+    /**
+     * Binary encodings for service-to-service callers ({@code application/cbor}, {@code application/x-jackson-smile}),
+     * configured exactly like the JSON mapper so all three carry the same values.
+     */
+    @Bean
+    public CBORMapper cborMapper() {
+        return configure(new CBORMapper());
+    }
+
+    @Bean
+    public SmileMapper smileMapper() {
+        return configure(new SmileMapper());
+    }
+
+    private static <M extends ObjectMapper> M configure(M mapper) {
         mapper.registerModule(new JavaTimeModule());
+        // Generated accessors (LambdaMetafactory) instead of reflective getter/setter calls
+        mapper.registerModule(new BlackbirdModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         mapper.disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
         return mapper;
     }
 }
-
@@ -0,0 +1,21 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.codedbydavid.eventhub.presentation.client.ClientIdentity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, ClientIdentity clientIdentity,
+                                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties, clientIdentity, objectMapper, meterRegistry);
+    }
+}
@@ -0,0 +1,120 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.codedbydavid.eventhub.presentation.client.ClientIdentity;
+import dev.codedbydavid.eventhub.presentation.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-client token-bucket rate limiting for {@code /api/v1/events}, with the {@code RateLimit-*} headers on every
+ * limited response and 429 once a client's bucket is empty. Runs after {@link CorrelationIdFilter} and before
+ * {@link ConcurrencyLimitFilter}, so throttled requests never take a concurrency permit. Clients are told apart by
+ * {@link ClientIdentity}, so rotating an unknown API key does not buy a fresh bucket.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String PATH_PREFIX = ConcurrencyLimitFilter.PATH_PREFIX;
+    private static final String METRIC_PREFIX = "eventhub.rate.limit";
+
+    private final ClientIdentity clientIdentity;
+    private final Map<String, TokenBucketTable> tables = new HashMap<>();
+    private final Map<String, Counter> rejections = new HashMap<>();
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, ClientIdentity clientIdentity, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.clientIdentity = clientIdentity;
+        this.objectMapper = objectMapper;
+        if (!properties.enabled()) {
+            return;
+        }
+        properties.quotas().forEach((operation, quota) -> {
+            TokenBucketTable table = new TokenBucketTable(quota.limit(), quota.period(),
+                    properties.maximumClients(), System::nanoTime);
+            tables.put(operation, table);
+            Gauge.builder(METRIC_PREFIX + ".clients", table, TokenBucketTable::trackedClients)
+                    .tag("operation", operation)
+                    .description("Clients with a live token bucket")
+                    .register(meterRegistry);
+            rejections.put(operation, Counter.builder(METRIC_PREFIX + ".rejected")
+                    .tag("operation", operation)
+                    .description("Requests rejected with 429")
+                    .register(meterRegistry));
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return tables.isEmpty() || !request.getRequestURI().startsWith(PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String operation = operation(request);
+        TokenBucketTable table = tables.get(operation);
+        if (table == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TokenBucketTable.Decision decision = table.tryAcquire(clientIdentity.of(request));
+        response.setHeader("RateLimit-Limit", Long.toString(decision.limit()));
+        response.setHeader("RateLimit-Remaining", Long.toString(decision.remaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(decision.resetSeconds()));
+
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejections.get(operation).increment();
+        ErrorResponse errorResponse = new ErrorResponse(
+                "TOO_MANY_REQUESTS",
+                "Rate limit exceeded",
+                "Quota for '" + operation + "' requests is exhausted, retry later",
+                Instant.now(),
+                request.getRequestURI());
+
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    static String operation(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        if (path.endsWith(":batch") || path.endsWith(":bulkUpdate")
+                || ("DELETE".equals(method) && request.getParameter("endsBefore") != null)) {
+            return "bulk";
+        }
+        boolean read = "GET".equals(method) || "HEAD".equals(method);
+        if (read && path.equals(PATH_PREFIX + "/export")) {
+            return "export";
+        }
+        return read ? "read" : "write";
+    }
+
+}
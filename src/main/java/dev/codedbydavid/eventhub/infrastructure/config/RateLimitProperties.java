@@ -0,0 +1,33 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-client rate limits for {@code /api/v1/events}. Off by default. Clients are identified as configured under
+ * {@code eventhub.clients}.
+ *
+ * @param maximumClients bound of the bucket table; the least recently seen clients are evicted first
+ * @param quotas         by operation: {@code read}, {@code write}, {@code bulk} ({@code :batch}, {@code :bulkUpdate},
+ *                       {@code DELETE ?endsBefore=}) and {@code export}; operations without a quota are not limited
+ */
+@ConfigurationProperties(prefix = "eventhub.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100000") long maximumClients,
+        Map<String, Quota> quotas) {
+
+    public RateLimitProperties {
+        quotas = quotas == null ? Map.of() : Map.copyOf(quotas);
+    }
+
+    /**
+     * @param limit  requests allowed per period, which is also the burst size
+     * @param period window over which {@code limit} requests refill
+     */
+    public record Quota(long limit, Duration period) {
+    }
+}
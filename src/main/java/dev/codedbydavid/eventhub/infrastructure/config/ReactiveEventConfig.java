@@ -0,0 +1,57 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import dev.codedbydavid.eventhub.application.event.ReactiveCreateEventUseCase;
+import dev.codedbydavid.eventhub.application.event.ReactiveDeleteEventUseCase;
+import dev.codedbydavid.eventhub.application.event.ReactiveGetEventUseCase;
+import dev.codedbydavid.eventhub.application.event.ReactiveListEventsUseCase;
+import dev.codedbydavid.eventhub.application.event.ReactiveUpdateEventUseCase;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventRepository;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventStatsRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Use cases and request filter of the reactive profile ({@code spring.main.web-application-type=reactive}).
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEventConfig {
+
+    @Bean
+    public CorrelationIdWebFilter correlationIdWebFilter() {
+        return new CorrelationIdWebFilter();
+    }
+
+    @Bean
+    public ReactiveCreateEventUseCase reactiveCreateEventUseCase(ReactiveEventRepository eventRepository,
+                                                                 ReactiveEventStatsRepository eventStatsRepository,
+                                                                 TransactionalOperator eventTransactionalOperator) {
+        return new ReactiveCreateEventUseCase(eventRepository, eventStatsRepository, eventTransactionalOperator);
+    }
+
+    @Bean
+    public ReactiveGetEventUseCase reactiveGetEventUseCase(ReactiveEventRepository eventRepository) {
+        return new ReactiveGetEventUseCase(eventRepository);
+    }
+
+    @Bean
+    public ReactiveListEventsUseCase reactiveListEventsUseCase(ReactiveEventRepository eventRepository) {
+        return new ReactiveListEventsUseCase(eventRepository);
+    }
+
+    @Bean
+    public ReactiveUpdateEventUseCase reactiveUpdateEventUseCase(ReactiveEventRepository eventRepository,
+                                                                 ReactiveEventStatsRepository eventStatsRepository,
+                                                                 TransactionalOperator eventTransactionalOperator) {
+        return new ReactiveUpdateEventUseCase(eventRepository, eventStatsRepository, eventTransactionalOperator);
+    }
+
+    @Bean
+    public ReactiveDeleteEventUseCase reactiveDeleteEventUseCase(ReactiveEventRepository eventRepository,
+                                                                 ReactiveEventStatsRepository eventStatsRepository,
+                                                                 TransactionalOperator eventTransactionalOperator) {
+        return new ReactiveDeleteEventUseCase(eventRepository, eventStatsRepository, eventTransactionalOperator);
+    }
+}
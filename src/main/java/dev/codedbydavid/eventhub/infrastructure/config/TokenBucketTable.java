@@ -0,0 +1,76 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets keyed by client, one quota for all of them.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding its "theoretical arrival time" (the GCRA form of a
+ * token bucket): taking a token is one compare-and-set, with no lock and no refill thread. The table is a
+ * size-bounded Caffeine cache; lookups of different clients rarely contend, since only colliding hash bins
+ * lock. A bucket idle for a whole period is full again, so expiring it after that period loses nothing.
+ */
+public final class TokenBucketTable {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long limit;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBucketTable(long limit, Duration period, long maximumClients, LongSupplier nanoClock) {
+        if (limit < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("A quota needs a positive limit and period");
+        }
+        this.limit = limit;
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / limit);
+        this.burstToleranceNanos = emissionIntervalNanos * limit;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumClients)
+                .expireAfterAccess(period)
+                .ticker(nanoClock::getAsLong)
+                .build();
+    }
+
+    public Decision tryAcquire(String client) {
+        AtomicLong theoreticalArrival = buckets.get(client, key -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long backlog = next - now;
+            if (backlog > burstToleranceNanos) {
+                long untilAllowed = backlog - burstToleranceNanos;
+                long untilFull = Math.max(0, current - now);
+                return new Decision(false, limit, 0, seconds(untilFull), Math.max(1, seconds(untilAllowed)));
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                long remaining = (burstToleranceNanos - backlog) / emissionIntervalNanos;
+                return new Decision(true, limit, remaining, seconds(backlog), 0);
+            }
+        }
+    }
+
+    public long trackedClients() {
+        return buckets.estimatedSize();
+    }
+
+    private static long seconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+
+    /**
+     * @param resetSeconds      until the bucket is full again
+     * @param retryAfterSeconds until the next request would be allowed; 0 when allowed
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+}
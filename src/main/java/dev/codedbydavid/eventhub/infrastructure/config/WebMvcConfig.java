@@ -0,0 +1,33 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final CBORMapper cborMapper;
+    private final SmileMapper smileMapper;
+
+    public WebMvcConfig(CBORMapper cborMapper, SmileMapper smileMapper) {
+        this.cborMapper = cborMapper;
+        this.smileMapper = smileMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Appended after the JSON converter, so wildcard Accept headers keep getting JSON
+        converters.add(new JacksonBinaryHttpMessageConverter(cborMapper, MediaType.APPLICATION_CBOR));
+        converters.add(new JacksonBinaryHttpMessageConverter(smileMapper, APPLICATION_SMILE));
+    }
+}
@@ -0,0 +1,31 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker row of a one-off data migration that already ran against this database (e.g. a rollup backfill).
+ * The primary key makes claiming a migration atomic across instances.
+ */
+@Entity
+@Table(name = "data_migrations")
+public class DataMigrationJpaEntity {
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    public DataMigrationJpaEntity() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+}
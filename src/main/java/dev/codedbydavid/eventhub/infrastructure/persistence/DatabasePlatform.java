@@ -0,0 +1,30 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * The database product behind the configured {@link DataSource}, for the few places that
+ * need vendor-specific SQL (PostgreSQL at runtime, H2 for local development and unit tests).
+ */
+public enum DatabasePlatform {
+    POSTGRESQL,
+    H2,
+    OTHER;
+
+    public static DatabasePlatform detect(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                return POSTGRESQL;
+            }
+            if ("H2".equalsIgnoreCase(product)) {
+                return H2;
+            }
+            return OTHER;
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Unable to detect database platform", ex);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    public DatabasePlatform databasePlatform(DataSource dataSource) {
+        return DatabasePlatform.detect(dataSource);
+    }
+}
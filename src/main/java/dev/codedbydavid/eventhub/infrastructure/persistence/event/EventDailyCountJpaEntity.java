@@ -0,0 +1,30 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Rollup row: number of events whose {@code startsAt} falls on {@code eventDay}.
+ * Written only through {@link EventStatsRepositoryAdapter}'s upsert.
+ */
+@Entity
+@Table(name = "event_daily_counts")
+public class EventDailyCountJpaEntity {
+    @Id
+    @Column(name = "event_day")
+    private LocalDate eventDay;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    public EventDailyCountJpaEntity() {
+    }
+
+    public LocalDate getEventDay() {
+        return eventDay;
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+}
@@ -0,0 +1,13 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface EventDailyCountJpaRepository extends JpaRepository<EventDailyCountJpaEntity, LocalDate> {
+
+    List<EventDailyCountJpaEntity> findByEventDayBetweenOrderByEventDayAsc(LocalDate from, LocalDate to);
+}
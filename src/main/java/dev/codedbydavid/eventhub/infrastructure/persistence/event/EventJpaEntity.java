@@ -1,31 +1,45 @@
 package dev.codedbydavid.eventhub.infrastructure.persistence.event;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // Backs keyset pagination: ORDER BY starts_at, id with a seek predicate on the same columns.
+        @Index(name = "idx_events_starts_at_id", columnList = "starts_at, id"),
+        // Back the list filters; starts_at predicates are already served by the index above.
+        @Index(name = "idx_events_ends_at", columnList = "ends_at"),
+        @Index(name = "idx_events_updated_at", columnList = "updated_at")
+})
 public class EventJpaEntity {
+    // Time-ordered UUIDv7, assigned by EventRepositoryAdapter before persist so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false, length = 255)
     private String title;
 
-    @Column(nullable = false)
+    @Column(name = "starts_at", nullable = false)
     private LocalDateTime startsAt;
 
-    @Column
+    @Column(name = "ends_at")
     private LocalDateTime endsAt;
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // The default lets schema updates add the column to a populated table
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     public EventJpaEntity() {
     }
 
@@ -86,5 +100,13 @@ public class EventJpaEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
 
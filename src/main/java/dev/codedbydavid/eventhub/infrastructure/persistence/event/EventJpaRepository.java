@@ -8,4 +8,3 @@ import java.util.UUID;
 @Repository
 public interface EventJpaRepository extends JpaRepository<EventJpaEntity, UUID> {
 }
-
@@ -0,0 +1,312 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Turns an {@link EventFilter} plus optional keyset cursor into one parameterised JPQL query.
+ * <p>
+ * Every criterion maps to a fixed, index-friendly predicate and only the predicates in use are
+ * emitted. The set of possible query strings is therefore bounded by the number of criteria
+ * combinations ({@code 2^6}); all of them are built once up front, so Hibernate's query plan
+ * cache and the driver's prepared statement cache only ever see these shapes, never
+ * literal values.
+ * <p>
+ * The {@code from} predicate is the one exception to a single index range:
+ * {@code (endsAt is null or endsAt >= :from)} keeps open-ended events in the window. On its own it can at best become
+ * a BitmapOr of two scans on {@code idx_events_ends_at} (B-tree indexes hold nulls), not one ordered range. Pages
+ * still walk {@code (starts_at, id)} in order and filter {@code ends_at} row by row, so a {@code from} that few
+ * events satisfy reads further into that index as the table grows. This trade-off was accepted over splitting the
+ * query into a UNION ALL, which would double every shape and lose the single ordered keyset scan the cursor relies on.
+ * <p>
+ * Sparse reads select only the requested columns (plus {@code id} and {@code startsAt}, which the
+ * keyset cursor needs). Those select lists are bounded too ({@code 2^4} per shape) and are built
+ * lazily on first use.
+ * <p>
+ * The same shapes are also rendered as plain SQL over the {@code events} table ({@link #sql(int)}), for the R2DBC
+ * adapter, so both stacks run identical predicates.
+ */
+final class EventQueryCompiler {
+
+    static final int FROM = 1;
+    static final int TO = 1 << 1;
+    static final int TITLE_PREFIX = 1 << 2;
+    static final int CREATED_AFTER = 1 << 3;
+    static final int UPDATED_AFTER = 1 << 4;
+    static final int CURSOR = 1 << 5;
+
+    private static final int SHAPES = CURSOR << 1;
+    private static final int BY_ID = -1;
+    // id/startsAt feed the keyset cursor, version the ETag
+    private static final Set<EventField> ALWAYS_SELECTED =
+            EnumSet.of(EventField.ID, EventField.STARTS_AT, EventField.VERSION);
+
+    private static final char LIKE_ESCAPE = '!';
+    private static final String[] CLAUSES = new String[SHAPES];
+    private static final String[] QUERIES = new String[SHAPES];
+    private static final String[] SQL_QUERIES = new String[SHAPES];
+    private static final ConcurrentMap<Long, String> PROJECTIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Columns of a full row, in {@link EventField} declaration order; see {@link #toEvent(Object[])}.
+     */
+    static final List<EventField> ALL_COLUMNS = List.copyOf(projectedColumns(EventField.ALL));
+    static final String SELECT_ALL = selectList(ALL_COLUMNS);
+    static final String SQL_SELECT_ALL =
+            "select id, title, starts_at, ends_at, created_at, updated_at, version from events";
+
+    static {
+        for (int shape = 0; shape < SHAPES; shape++) {
+            CLAUSES[shape] = buildClause(shape, field -> "e." + field);
+            QUERIES[shape] = SELECT_ALL + CLAUSES[shape];
+            SQL_QUERIES[shape] = SQL_SELECT_ALL + buildClause(shape, EventQueryCompiler::sqlColumn) + " limit :limit";
+        }
+    }
+
+    private EventQueryCompiler() {
+    }
+
+    /**
+     * Full rows as scalars rather than entities: read paths only map them once into {@link Event}, so managed
+     * entities (with their dirty-checking snapshots and persistence-context entries) would be pure overhead.
+     */
+    static TypedQuery<Object[]> compile(EntityManager entityManager, EventFilter filter,
+                                        EventCursor after, int limit) {
+        int shape = shapeOf(filter, after);
+        TypedQuery<Object[]> query = entityManager.createQuery(QUERIES[shape], Object[].class);
+        bind(query, shape, filter, after);
+        query.setMaxResults(limit);
+        return query;
+    }
+
+    /**
+     * Same as {@link #compile} but selecting only {@code fields}; rows follow {@link #projectedColumns}.
+     */
+    static TypedQuery<Object[]> compileProjection(EntityManager entityManager, EventFilter filter,
+                                                  EventCursor after, int limit, Set<EventField> fields) {
+        int shape = shapeOf(filter, after);
+        List<EventField> columns = projectedColumns(fields);
+        String jpql = PROJECTIONS.computeIfAbsent(projectionKey(shape, columns),
+                key -> selectList(columns) + CLAUSES[shape]);
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+        bind(query, shape, filter, after);
+        query.setMaxResults(limit);
+        return query;
+    }
+
+    static TypedQuery<Object[]> compileProjectionById(EntityManager entityManager, UUID id, Set<EventField> fields) {
+        List<EventField> columns = projectedColumns(fields);
+        String jpql = PROJECTIONS.computeIfAbsent(projectionKey(BY_ID, columns),
+                key -> selectList(columns) + " where e.id = :id");
+        return entityManager.createQuery(jpql, Object[].class).setParameter("id", id);
+    }
+
+    /**
+     * Columns actually selected for {@code fields}, in {@link EventField} declaration order.
+     */
+    static List<EventField> projectedColumns(Set<EventField> fields) {
+        EnumSet<EventField> selected = EnumSet.copyOf(ALWAYS_SELECTED);
+        selected.addAll(fields);
+        return new ArrayList<>(selected);
+    }
+
+    /**
+     * Maps a full row selected with {@link #SELECT_ALL} (or in {@link #ALL_COLUMNS} order) positionally.
+     */
+    static Event toEvent(Object[] row) {
+        return Event.builder()
+                .id((UUID) row[0])
+                .title((String) row[1])
+                .startsAt((LocalDateTime) row[2])
+                .endsAt((LocalDateTime) row[3])
+                .createdAt((LocalDateTime) row[4])
+                .updatedAt((LocalDateTime) row[5])
+                .version((Long) row[6])
+                .build();
+    }
+
+    /**
+     * Maps rows of a single-column-set query into a list sized up front.
+     */
+    static List<Event> toEvents(List<Object[]> rows, List<EventField> columns) {
+        boolean full = columns.equals(ALL_COLUMNS);
+        List<Event> events = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            events.add(full ? toEvent(row) : toEvent(row, columns));
+        }
+        return events;
+    }
+
+    static Event toEvent(Object[] row, List<EventField> columns) {
+        Event.Builder builder = Event.builder();
+        for (int i = 0; i < row.length; i++) {
+            Object value = row[i];
+            switch (columns.get(i)) {
+                case ID -> builder.id((UUID) value);
+                case TITLE -> builder.title((String) value);
+                case STARTS_AT -> builder.startsAt((LocalDateTime) value);
+                case ENDS_AT -> builder.endsAt((LocalDateTime) value);
+                case CREATED_AT -> builder.createdAt((LocalDateTime) value);
+                case UPDATED_AT -> builder.updatedAt((LocalDateTime) value);
+                case VERSION -> builder.version((Long) value);
+            }
+        }
+        return builder.build();
+    }
+
+    static int shapeOf(EventFilter filter, EventCursor after) {
+        int shape = 0;
+        if (filter.from() != null) {
+            shape |= FROM;
+        }
+        if (filter.to() != null) {
+            shape |= TO;
+        }
+        if (filter.titlePrefix() != null) {
+            shape |= TITLE_PREFIX;
+        }
+        if (filter.createdAfter() != null) {
+            shape |= CREATED_AFTER;
+        }
+        if (filter.updatedAfter() != null) {
+            shape |= UPDATED_AFTER;
+        }
+        if (after != null) {
+            shape |= CURSOR;
+        }
+        return shape;
+    }
+
+    static String jpql(int shape) {
+        return QUERIES[shape];
+    }
+
+    /**
+     * {@link #jpql(int)} as native SQL with a trailing {@code limit :limit}; row columns follow {@link #ALL_COLUMNS}.
+     */
+    static String sql(int shape) {
+        return SQL_QUERIES[shape];
+    }
+
+    /**
+     * Value bound to {@code :titlePrefix}: the prefix with LIKE wildcards escaped, then a trailing {@code %}.
+     */
+    static String titlePattern(String titlePrefix) {
+        return escapeLike(titlePrefix) + "%";
+    }
+
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static void bind(Query query, int shape, EventFilter filter, EventCursor after) {
+        if ((shape & FROM) != 0) {
+            query.setParameter("from", filter.from());
+        }
+        if ((shape & TO) != 0) {
+            query.setParameter("to", filter.to());
+        }
+        if ((shape & TITLE_PREFIX) != 0) {
+            query.setParameter("titlePrefix", titlePattern(filter.titlePrefix()));
+        }
+        if ((shape & CREATED_AFTER) != 0) {
+            query.setParameter("createdAfter", filter.createdAfter());
+        }
+        if ((shape & UPDATED_AFTER) != 0) {
+            query.setParameter("updatedAfter", filter.updatedAfter());
+        }
+        if ((shape & CURSOR) != 0) {
+            query.setParameter("cursorStartsAt", after.startsAt());
+            query.setParameter("cursorId", after.id());
+        }
+    }
+
+    private static long projectionKey(int shape, List<EventField> columns) {
+        long columnMask = 0;
+        for (EventField column : columns) {
+            columnMask |= 1L << column.ordinal();
+        }
+        return ((long) shape << 32) | columnMask;
+    }
+
+    private static String selectList(List<EventField> columns) {
+        StringBuilder select = new StringBuilder("select ");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                select.append(", ");
+            }
+            select.append("e.").append(columns.get(i).fieldName());
+        }
+        return select.append(" from EventJpaEntity e").toString();
+    }
+
+    private static String sqlColumn(String field) {
+        return field.replaceAll("([A-Z])", "_$1").toLowerCase(Locale.ROOT);
+    }
+
+    private static String buildClause(int shape, UnaryOperator<String> column) {
+        StringBuilder where = new StringBuilder();
+        if ((shape & FROM) != 0) {
+            // Open-ended events (no endsAt) overlap every window that does not end before they start.
+            // Not a single index range; see the class comment for the trade-off
+            and(where, "(" + column.apply("endsAt") + " is null or " + column.apply("endsAt") + " >= :from)");
+        }
+        if ((shape & TO) != 0) {
+            and(where, column.apply("startsAt") + " <= :to");
+        }
+        if ((shape & TITLE_PREFIX) != 0) {
+            and(where, column.apply("title") + " like :titlePrefix escape '" + LIKE_ESCAPE + "'");
+        }
+        if ((shape & CREATED_AFTER) != 0) {
+            and(where, column.apply("createdAt") + " > :createdAfter");
+        }
+        if ((shape & UPDATED_AFTER) != 0) {
+            and(where, column.apply("updatedAt") + " > :updatedAfter");
+        }
+        if ((shape & CURSOR) != 0) {
+            // The leading "startsAt >= cursor" is logically redundant but keeps the seek
+            // predicate sargable, so the (starts_at, id) index is range-scanned from the cursor.
+            and(where, column.apply("startsAt") + " >= :cursorStartsAt");
+            and(where, "(" + column.apply("startsAt") + " > :cursorStartsAt or " + column.apply("id")
+                    + " > :cursorId)");
+        }
+
+        StringBuilder clause = new StringBuilder();
+        if (!where.isEmpty()) {
+            clause.append(" where ").append(where);
+        }
+        return clause.append(" order by ").append(column.apply("startsAt")).append(" asc, ")
+                .append(column.apply("id")).append(" asc").toString();
+    }
+
+    private static void and(StringBuilder where, String predicate) {
+        if (!where.isEmpty()) {
+            where.append(" and ");
+        }
+        where.append(predicate);
+    }
+}
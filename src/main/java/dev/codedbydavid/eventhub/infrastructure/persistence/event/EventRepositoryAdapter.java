@@ -1,69 +1,379 @@
 package dev.codedbydavid.eventhub.infrastructure.persistence.event;
 
 import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
 import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
 import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
+import dev.codedbydavid.eventhub.infrastructure.persistence.DatabasePlatform;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 public class EventRepositoryAdapter implements EventRepository {
+
+    static final String RETURNED_COLUMNS = "id, title, starts_at, ends_at, created_at, updated_at, version";
+    private static final List<EventField> RETURNED_FIELDS = EventQueryCompiler.ALL_COLUMNS;
+
+    // One statement that both writes and hands back the row, so "not found or stale" is simply an empty result.
+    static final String POSTGRES_UPDATE = """
+            UPDATE events SET title = :title, starts_at = :startsAt, ends_at = :endsAt, updated_at = :updatedAt,
+                version = version + 1
+            WHERE id = :id AND version = :version
+            RETURNING """ + RETURNED_COLUMNS;
+
+    static final String POSTGRES_DELETE = "DELETE FROM events WHERE id = :id RETURNING " + RETURNED_COLUMNS;
+
+    // H2 has no RETURNING; data change delta tables give the same single round trip.
+    static final String H2_UPDATE = "SELECT " + RETURNED_COLUMNS + """
+             FROM FINAL TABLE (
+                UPDATE events SET title = :title, starts_at = :startsAt, ends_at = :endsAt, updated_at = :updatedAt,
+                    version = version + 1
+                WHERE id = :id AND version = :version)
+            """;
+
+    static final String H2_DELETE = "SELECT " + RETURNED_COLUMNS
+            + " FROM OLD TABLE (DELETE FROM events WHERE id = :id)";
+
+    // Bulk deletes take a bounded chunk per statement, so row locks are held only briefly
+    private static final String POSTGRES_DELETE_ENDED_BEFORE = """
+            DELETE FROM events WHERE id IN (SELECT id FROM events WHERE ends_at < :cutoff LIMIT :limit)
+            RETURNING """ + RETURNED_COLUMNS;
+
+    private static final String H2_DELETE_ENDED_BEFORE = "SELECT " + RETURNED_COLUMNS + """
+             FROM OLD TABLE (
+                DELETE FROM events WHERE id IN (SELECT id FROM events WHERE ends_at < :cutoff LIMIT :limit))
+            """;
+
+    // The range is re-checked so events moved out of it since the ids were read are left alone
+    private static final String POSTGRES_SHIFT = """
+            UPDATE events SET starts_at = starts_at + :micros * INTERVAL '1 microsecond',
+                ends_at = ends_at + :micros * INTERVAL '1 microsecond',
+                updated_at = :updatedAt, version = version + 1
+            WHERE id IN (:ids) AND starts_at >= :from AND starts_at < :before
+            RETURNING """ + RETURNED_COLUMNS;
+
+    private static final String H2_SHIFT = "SELECT " + RETURNED_COLUMNS + """
+             FROM FINAL TABLE (
+                UPDATE events SET starts_at = DATEADD(MICROSECOND, :micros, starts_at),
+                    ends_at = DATEADD(MICROSECOND, :micros, ends_at),
+                    updated_at = :updatedAt, version = version + 1
+                WHERE id IN (:ids) AND starts_at >= :from AND starts_at < :before)
+            """;
+
     private final EventJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final int exportFetchSize;
+    private final int jdbcBatchSize;
+    private final String updateSql;
+    private final String deleteSql;
+    private final String deleteEndedBeforeSql;
+    private final String shiftSql;
 
-    public EventRepositoryAdapter(EventJpaRepository jpaRepository) {
+    public EventRepositoryAdapter(EventJpaRepository jpaRepository,
+                                  EntityManager entityManager,
+                                  DatabasePlatform databasePlatform,
+                                  @Value("${eventhub.export.fetch-size:1000}") int exportFetchSize,
+                                  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int jdbcBatchSize) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.exportFetchSize = exportFetchSize;
+        this.jdbcBatchSize = Math.max(1, jdbcBatchSize);
+        this.updateSql = switch (databasePlatform) {
+            case POSTGRESQL -> POSTGRES_UPDATE;
+            case H2 -> H2_UPDATE;
+            case OTHER -> null;
+        };
+        this.deleteSql = switch (databasePlatform) {
+            case POSTGRESQL -> POSTGRES_DELETE;
+            case H2 -> H2_DELETE;
+            case OTHER -> null;
+        };
+        this.deleteEndedBeforeSql = switch (databasePlatform) {
+            case POSTGRESQL -> POSTGRES_DELETE_ENDED_BEFORE;
+            case H2 -> H2_DELETE_ENDED_BEFORE;
+            case OTHER -> null;
+        };
+        this.shiftSql = switch (databasePlatform) {
+            case POSTGRESQL -> POSTGRES_SHIFT;
+            case H2 -> H2_SHIFT;
+            case OTHER -> null;
+        };
     }
 
     @Override
+    // A version conflict is an expected outcome the caller may retry within its transaction
+    @Transactional(noRollbackFor = EventVersionConflictException.class)
     public Event save(Event event) {
-        // CREATE: let JPA generate the UUID
+        // CREATE: assign the id here and persist directly; JpaRepository.save would merge (SELECT first)
+        // any entity that already has an id
         if (event.getId() == null) {
-            EventJpaEntity entity = new EventJpaEntity(
-                    null,
-                    event.getTitle(),
-                    event.getStartsAt(),
-                    event.getEndsAt(),
-                    event.getCreatedAt(),
-                    event.getUpdatedAt()
-            );
-            EventJpaEntity saved = jpaRepository.save(entity); // persist
-            return toDomainEntity(saved);
+            EventJpaEntity entity = newJpaEntity(event);
+            entityManager.persist(entity);
+            return toDomainEntity(entity);
         }
 
         // UPDATE: must exist, otherwise 404
-        if (!jpaRepository.existsById(event.getId())) {
-            throw new EventNotFoundException(event.getId());
+        if (updateSql == null) {
+            if (!jpaRepository.existsById(event.getId())) {
+                throw new EventNotFoundException(event.getId());
+            }
+            try {
+                return toDomainEntity(jpaRepository.save(toJpaEntity(event))); // merge, version-checked
+            } catch (OptimisticLockingFailureException ex) {
+                throw new EventVersionConflictException(event.getId(), event.getVersion());
+            }
+        }
+        NativeQuery<?> update = entityManager.createNativeQuery(updateSql).unwrap(NativeQuery.class);
+        update.setParameter("id", event.getId(), UUID.class)
+                .setParameter("title", event.getTitle(), String.class)
+                .setParameter("startsAt", event.getStartsAt(), LocalDateTime.class)
+                // Typed binding: an untyped null endsAt would reach PostgreSQL as bytea
+                .setParameter("endsAt", event.getEndsAt(), LocalDateTime.class)
+                .setParameter("updatedAt", event.getUpdatedAt(), LocalDateTime.class)
+                .setParameter("version", event.getVersion(), Long.class);
+        Optional<Event> updated = returnedRow(update);
+        if (updated.isPresent()) {
+            return updated.get();
+        }
+        // Failure path only: tell a missing event from a stale version
+        boolean exists = !entityManager
+                .createQuery("select e.version from EventJpaEntity e where e.id = :id", Long.class)
+                .setParameter("id", event.getId())
+                .getResultList()
+                .isEmpty();
+        if (exists) {
+            throw new EventVersionConflictException(event.getId(), event.getVersion());
         }
+        throw new EventNotFoundException(event.getId());
+    }
 
-        EventJpaEntity entity = toJpaEntity(event); // includes id
-        EventJpaEntity saved = jpaRepository.save(entity); // merge
-        return toDomainEntity(saved);
+    @Override
+    @Transactional
+    public List<Event> saveAll(List<Event> events) {
+        // Hibernate groups the queued INSERTs into JDBC batches of jdbcBatchSize on flush; flushing and
+        // clearing at the same cadence keeps the persistence context from growing with the request.
+        List<Event> saved = new ArrayList<>(events.size());
+        for (Event event : events) {
+            if (event.getId() != null) {
+                throw new IllegalArgumentException("saveAll only inserts new events, got id " + event.getId());
+            }
+            EventJpaEntity entity = newJpaEntity(event);
+            entityManager.persist(entity);
+            saved.add(toDomainEntity(entity));
+            if (saved.size() % jdbcBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
     }
 
     @Override
     public Optional<Event> findById(UUID id) {
-        return jpaRepository.findById(id).map(this::toDomainEntity);
+        return findById(id, EventField.ALL);
     }
 
     @Override
-    public List<Event> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(this::toDomainEntity)
-                .collect(Collectors.toList());
+    public Optional<Event> findCurrentById(UUID id) {
+        return findById(id);
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+    public Optional<Event> findById(UUID id, Set<EventField> fields) {
+        // Scalar projection even for all fields: no managed entity is left behind that a later
+        // native UPDATE in the same transaction would make stale.
+        List<EventField> columns = EventQueryCompiler.projectedColumns(fields);
+        return EventQueryCompiler.compileProjectionById(entityManager, id, fields)
+                .getResultStream()
+                .findFirst()
+                .map(row -> EventQueryCompiler.toEvent(row, columns));
     }
 
-    private EventJpaEntity toJpaEntity(Event event) {
-        // For UPDATE we must keep the ID. For CREATE we bypass this method.
+    @Override
+    public List<Event> findPage(EventFilter filter, EventCursor after, int limit, Set<EventField> fields) {
+        if (fields.containsAll(EventField.ALL)) {
+            return EventQueryCompiler.toEvents(
+                    EventQueryCompiler.compile(entityManager, filter, after, limit).getResultList(), RETURNED_FIELDS);
+        }
+        List<EventField> columns = EventQueryCompiler.projectedColumns(fields);
+        return EventQueryCompiler.toEvents(
+                EventQueryCompiler.compileProjection(entityManager, filter, after, limit, fields).getResultList(),
+                columns);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachEvent(Consumer<? super Event> action) {
+        // Forward-only cursor: the driver pulls exportFetchSize rows per round trip
+        // (PostgreSQL only honours this inside a transaction). Scalar rows never enter the
+        // persistence context, so it does not grow with the table.
+        try (Stream<Object[]> rows = entityManager
+                .createQuery(EventQueryCompiler.SELECT_ALL, Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .getResultStream()) {
+            rows.forEach(row -> action.accept(EventQueryCompiler.toEvent(row)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachId(Consumer<? super UUID> action) {
+        // Scalar projection: nothing enters the persistence context, so no detaching is needed.
+        try (Stream<UUID> ids = entityManager
+                .createQuery("select e.id from EventJpaEntity e", UUID.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .getResultStream()) {
+            ids.forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Optional<Event> deleteById(UUID id) {
+        if (deleteSql == null) {
+            Optional<Event> existing = findById(id);
+            existing.ifPresent(event -> entityManager
+                    .createQuery("delete from EventJpaEntity e where e.id = :id")
+                    .setParameter("id", id)
+                    .executeUpdate());
+            return existing;
+        }
+        NativeQuery<?> delete = entityManager.createNativeQuery(deleteSql).unwrap(NativeQuery.class);
+        delete.setParameter("id", id, UUID.class);
+        return returnedRow(delete);
+    }
+
+    @Override
+    @Transactional
+    public List<Event> deleteEndedBefore(LocalDateTime cutoff, int limit) {
+        if (deleteEndedBeforeSql == null) {
+            List<Event> doomed = EventQueryCompiler.toEvents(entityManager
+                    .createQuery(EventQueryCompiler.SELECT_ALL + " where e.endsAt < :cutoff", Object[].class)
+                    .setParameter("cutoff", cutoff)
+                    .setMaxResults(limit)
+                    .getResultList(), RETURNED_FIELDS);
+            if (!doomed.isEmpty()) {
+                entityManager.createQuery("delete from EventJpaEntity e where e.id in :ids")
+                        .setParameter("ids", doomed.stream().map(Event::getId).toList())
+                        .executeUpdate();
+                entityManager.clear();
+            }
+            return doomed;
+        }
+        NativeQuery<?> delete = entityManager.createNativeQuery(deleteEndedBeforeSql).unwrap(NativeQuery.class);
+        delete.setParameter("cutoff", cutoff, LocalDateTime.class)
+                .setParameter("limit", limit, Integer.class);
+        return rows(delete);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findIdsStartingBetween(LocalDateTime from, LocalDateTime before, UUID afterId, int limit) {
+        // Keyset on the primary key: each page is one bounded index range, however large the whole range is
+        String jpql = "select e.id from EventJpaEntity e where e.startsAt >= :from and e.startsAt < :before"
+                + (afterId != null ? " and e.id > :afterId" : "") + " order by e.id asc";
+        TypedQuery<UUID> query = entityManager.createQuery(jpql, UUID.class)
+                .setParameter("from", from)
+                .setParameter("before", before)
+                .setMaxResults(limit);
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    @Transactional
+    public List<Event> shiftStartingBetween(Collection<UUID> ids, LocalDateTime from, LocalDateTime before,
+                                            Duration shift, LocalDateTime updatedAt) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (shiftSql == null) {
+            List<EventJpaEntity> entities = entityManager
+                    .createQuery("select e from EventJpaEntity e where e.id in :ids"
+                            + " and e.startsAt >= :from and e.startsAt < :before", EventJpaEntity.class)
+                    .setParameter("ids", ids)
+                    .setParameter("from", from)
+                    .setParameter("before", before)
+                    .getResultList();
+            for (EventJpaEntity entity : entities) {
+                entity.setStartsAt(entity.getStartsAt().plus(shift));
+                entity.setEndsAt(entity.getEndsAt() != null ? entity.getEndsAt().plus(shift) : null);
+                entity.setUpdatedAt(updatedAt);
+            }
+            entityManager.flush(); // increments @Version
+            List<Event> shifted = entities.stream().map(EventRepositoryAdapter::toDomainEntity).toList();
+            entityManager.clear();
+            return shifted;
+        }
+        NativeQuery<?> update = entityManager.createNativeQuery(shiftSql).unwrap(NativeQuery.class);
+        update.setParameter("micros", shift.toNanos() / 1_000, Long.class)
+                .setParameter("updatedAt", updatedAt, LocalDateTime.class)
+                .setParameterList("ids", ids, UUID.class)
+                .setParameter("from", from, LocalDateTime.class)
+                .setParameter("before", before, LocalDateTime.class);
+        return rows(update);
+    }
+
+    private static Optional<Event> returnedRow(NativeQuery<?> query) {
+        return rows(query).stream().findFirst();
+    }
+
+    /**
+     * Rows of a native query selecting every event column (e.g. via {@code RETURNING}), mapped without entities.
+     */
+    @SuppressWarnings("unchecked")
+    static List<Event> rows(NativeQuery<?> query) {
+        // Explicit scalar types: native results would otherwise come back as driver-specific classes.
+        List<Object[]> rows = (List<Object[]>) query
+                .addScalar("id", UUID.class)
+                .addScalar("title", String.class)
+                .addScalar("starts_at", LocalDateTime.class)
+                .addScalar("ends_at", LocalDateTime.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("version", Long.class)
+                .getResultList();
+        return EventQueryCompiler.toEvents(rows, RETURNED_FIELDS);
+    }
+
+    private static EventJpaEntity newJpaEntity(Event event) {
         return new EventJpaEntity(
+                UuidV7Generator.INSTANCE.next(),
+                event.getTitle(),
+                event.getStartsAt(),
+                event.getEndsAt(),
+                event.getCreatedAt(),
+                event.getUpdatedAt()
+        );
+    }
+
+    private EventJpaEntity toJpaEntity(Event event) {
+        // For UPDATE we must keep the ID and version. For CREATE we bypass this method.
+        EventJpaEntity entity = new EventJpaEntity(
                 event.getId(),
                 event.getTitle(),
                 event.getStartsAt(),
@@ -71,9 +381,11 @@ public class EventRepositoryAdapter implements EventRepository {
                 event.getCreatedAt(),
                 event.getUpdatedAt()
         );
+        entity.setVersion(event.getVersion());
+        return entity;
     }
 
-    private Event toDomainEntity(EventJpaEntity entity) {
+    static Event toDomainEntity(EventJpaEntity entity) {
         return Event.builder()
                 .id(entity.getId())
                 .title(entity.getTitle())
@@ -81,6 +393,7 @@ public class EventRepositoryAdapter implements EventRepository {
                 .endsAt(entity.getEndsAt())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .version(entity.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,22 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.domain.event.EventSearchRepository;
+import dev.codedbydavid.eventhub.infrastructure.persistence.DatabasePlatform;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class EventSearchConfig {
+
+    @Bean
+    public EventSearchRepository eventSearchRepository(DatabasePlatform databasePlatform,
+                                                       EntityManager entityManager,
+                                                       JdbcTemplate jdbcTemplate) {
+        if (databasePlatform == DatabasePlatform.POSTGRESQL) {
+            return new PostgresEventSearchAdapter(entityManager, jdbcTemplate);
+        }
+        return new SimpleEventSearchAdapter(entityManager);
+    }
+}
@@ -0,0 +1,121 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.domain.event.DailyEventCount;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import dev.codedbydavid.eventhub.infrastructure.persistence.DatabasePlatform;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class EventStatsRepositoryAdapter implements EventStatsRepository, InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStatsRepositoryAdapter.class);
+
+    // Single-statement upserts, so concurrent writers on the same day never race on insert.
+    static final String POSTGRES_UPSERT = """
+            INSERT INTO event_daily_counts (event_day, event_count) VALUES (:day, :delta)
+            ON CONFLICT (event_day) DO UPDATE SET event_count = event_daily_counts.event_count + EXCLUDED.event_count
+            """;
+
+    static final String STANDARD_UPSERT = """
+            MERGE INTO event_daily_counts t
+            USING (VALUES (CAST(:day AS DATE), CAST(:delta AS BIGINT))) s (event_day, delta)
+            ON t.event_day = s.event_day
+            WHEN MATCHED THEN UPDATE SET event_count = t.event_count + s.delta
+            WHEN NOT MATCHED THEN INSERT (event_day, event_count) VALUES (s.event_day, s.delta)
+            """;
+
+    private static final String BACKFILL = """
+            INSERT INTO event_daily_counts (event_day, event_count)
+            SELECT CAST(starts_at AS DATE), COUNT(*) FROM events GROUP BY CAST(starts_at AS DATE)
+            """;
+
+    private static final String BACKFILL_MIGRATION = "event_daily_counts_backfill";
+
+    // Inserts the marker unless present. A concurrent claim of the same name waits for the first
+    // transaction on the primary key and then matches its row, so exactly one instance backfills.
+    private static final String POSTGRES_CLAIM_MIGRATION = """
+            INSERT INTO data_migrations (name, applied_at) VALUES (?, ?) ON CONFLICT (name) DO NOTHING
+            """;
+
+    private static final String STANDARD_CLAIM_MIGRATION = """
+            MERGE INTO data_migrations t
+            USING (VALUES (CAST(? AS VARCHAR(100)), CAST(? AS TIMESTAMP))) s (name, applied_at)
+            ON t.name = s.name
+            WHEN NOT MATCHED THEN INSERT (name, applied_at) VALUES (s.name, s.applied_at)
+            """;
+
+    private final EventDailyCountJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabasePlatform databasePlatform;
+    private final String upsertSql;
+
+    public EventStatsRepositoryAdapter(EventDailyCountJpaRepository jpaRepository,
+                                       EntityManager entityManager,
+                                       JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       DatabasePlatform databasePlatform) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.databasePlatform = databasePlatform;
+        this.upsertSql = databasePlatform == DatabasePlatform.POSTGRESQL ? POSTGRES_UPSERT : STANDARD_UPSERT;
+    }
+
+    /**
+     * Seeds the rollup from existing events, once per database: the first instance to claim the
+     * {@code data_migrations} marker rebuilds it, every later start (on any instance) is a no-op.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        Integer days = transactionTemplate.execute(status -> backfillOnce());
+        if (days != null && days > 0) {
+            log.info("Backfilled event_daily_counts for {} days", days);
+        }
+    }
+
+    private Integer backfillOnce() {
+        String claimSql = databasePlatform == DatabasePlatform.POSTGRESQL
+                ? POSTGRES_CLAIM_MIGRATION : STANDARD_CLAIM_MIGRATION;
+        if (jdbcTemplate.update(claimSql, BACKFILL_MIGRATION, LocalDateTime.now(ZoneOffset.UTC)) == 0) {
+            return null;
+        }
+        if (databasePlatform == DatabasePlatform.POSTGRESQL) {
+            // Holds off writers until commit: creates that already bumped the rollup are visible in events,
+            // later ones see the rebuilt rows, so the recount is exact rather than racing the increments.
+            jdbcTemplate.execute("LOCK TABLE events IN SHARE MODE");
+        }
+        jdbcTemplate.update("DELETE FROM event_daily_counts");
+        return jdbcTemplate.update(BACKFILL);
+    }
+
+    @Override
+    public void incrementDailyCount(LocalDate day, long delta) {
+        entityManager.createNativeQuery(upsertSql)
+                .setParameter("day", day)
+                .setParameter("delta", delta)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<DailyEventCount> findDailyCounts(LocalDate from, LocalDate to) {
+        return jpaRepository.findByEventDayBetweenOrderByEventDayAsc(from, to).stream()
+                .map(row -> new DailyEventCount(row.getEventDay(), row.getEventCount()))
+                .collect(Collectors.toList());
+    }
+}
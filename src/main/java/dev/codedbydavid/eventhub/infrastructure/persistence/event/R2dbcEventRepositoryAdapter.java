@@ -0,0 +1,148 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
+import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventRepository;
+import dev.codedbydavid.eventhub.infrastructure.persistence.DatabasePlatform;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * {@link ReactiveEventRepository} over R2DBC. Runs the statements of {@link EventRepositoryAdapter}: the listing
+ * shapes of {@link EventQueryCompiler#sql(int)} and the single round trip versioned update and delete, so both
+ * stacks read and write the same rows the same way.
+ */
+public class R2dbcEventRepositoryAdapter implements ReactiveEventRepository {
+
+    private static final String INSERT = """
+            INSERT INTO events (id, title, starts_at, ends_at, created_at, updated_at, version)
+            VALUES (:id, :title, :startsAt, :endsAt, :createdAt, :updatedAt, 0)
+            """;
+
+    private static final String FIND_BY_ID = EventQueryCompiler.SQL_SELECT_ALL + " where id = :id";
+
+    private static final String EXISTS = "SELECT 1 FROM events WHERE id = :id";
+
+    private final DatabaseClient databaseClient;
+    private final String updateSql;
+    private final String deleteSql;
+
+    public R2dbcEventRepositoryAdapter(DatabaseClient databaseClient, DatabasePlatform databasePlatform) {
+        this.databaseClient = databaseClient;
+        this.updateSql = switch (databasePlatform) {
+            case POSTGRESQL -> EventRepositoryAdapter.POSTGRES_UPDATE;
+            case H2 -> EventRepositoryAdapter.H2_UPDATE;
+            case OTHER -> throw new IllegalStateException("The reactive profile supports PostgreSQL and H2 only");
+        };
+        this.deleteSql = databasePlatform == DatabasePlatform.POSTGRESQL
+                ? EventRepositoryAdapter.POSTGRES_DELETE : EventRepositoryAdapter.H2_DELETE;
+    }
+
+    @Override
+    public Mono<Event> save(Event event) {
+        if (event.getId() == null) {
+            Event created = Event.builder()
+                    .id(UuidV7Generator.INSTANCE.next())
+                    .title(event.getTitle())
+                    .startsAt(event.getStartsAt())
+                    .endsAt(event.getEndsAt())
+                    .createdAt(event.getCreatedAt())
+                    .updatedAt(event.getUpdatedAt())
+                    .version(0)
+                    .build();
+            return bindColumns(databaseClient.sql(INSERT), created)
+                    .bind("createdAt", created.getCreatedAt())
+                    .fetch()
+                    .rowsUpdated()
+                    .thenReturn(created);
+        }
+
+        return bindColumns(databaseClient.sql(updateSql), event)
+                .bind("version", event.getVersion())
+                .map(R2dbcEventRepositoryAdapter::toEvent)
+                .one()
+                // Failure path only: tell a missing event from a stale version
+                .switchIfEmpty(Mono.defer(() -> databaseClient.sql(EXISTS)
+                        .bind("id", event.getId())
+                        .map(row -> Boolean.TRUE)
+                        .one()
+                        .hasElement()
+                        .flatMap(exists -> Mono.<Event>error(exists
+                                ? new EventVersionConflictException(event.getId(), event.getVersion())
+                                : new EventNotFoundException(event.getId())))));
+    }
+
+    @Override
+    public Mono<Event> findById(UUID id) {
+        return databaseClient.sql(FIND_BY_ID)
+                .bind("id", id)
+                .map(R2dbcEventRepositoryAdapter::toEvent)
+                .one();
+    }
+
+    @Override
+    public Flux<Event> findPage(EventFilter filter, EventCursor after, int limit) {
+        int shape = EventQueryCompiler.shapeOf(filter, after);
+        GenericExecuteSpec query = databaseClient.sql(EventQueryCompiler.sql(shape)).bind("limit", limit);
+        if ((shape & EventQueryCompiler.FROM) != 0) {
+            query = query.bind("from", filter.from());
+        }
+        if ((shape & EventQueryCompiler.TO) != 0) {
+            query = query.bind("to", filter.to());
+        }
+        if ((shape & EventQueryCompiler.TITLE_PREFIX) != 0) {
+            query = query.bind("titlePrefix", EventQueryCompiler.titlePattern(filter.titlePrefix()));
+        }
+        if ((shape & EventQueryCompiler.CREATED_AFTER) != 0) {
+            query = query.bind("createdAfter", filter.createdAfter());
+        }
+        if ((shape & EventQueryCompiler.UPDATED_AFTER) != 0) {
+            query = query.bind("updatedAfter", filter.updatedAfter());
+        }
+        if ((shape & EventQueryCompiler.CURSOR) != 0) {
+            query = query.bind("cursorStartsAt", after.startsAt()).bind("cursorId", after.id());
+        }
+        return query.map(R2dbcEventRepositoryAdapter::toEvent).all();
+    }
+
+    @Override
+    public Mono<Event> deleteById(UUID id) {
+        return databaseClient.sql(deleteSql)
+                .bind("id", id)
+                .map(R2dbcEventRepositoryAdapter::toEvent)
+                .one();
+    }
+
+    private static GenericExecuteSpec bindColumns(GenericExecuteSpec statement, Event event) {
+        GenericExecuteSpec bound = statement
+                .bind("id", event.getId())
+                .bind("title", event.getTitle())
+                .bind("startsAt", event.getStartsAt())
+                .bind("updatedAt", event.getUpdatedAt());
+        // Typed null: an untyped one would not tell the driver which column type to send
+        return event.getEndsAt() != null
+                ? bound.bind("endsAt", event.getEndsAt())
+                : bound.bindNull("endsAt", LocalDateTime.class);
+    }
+
+    private static Event toEvent(Readable row) {
+        return Event.builder()
+                .id(row.get("id", UUID.class))
+                .title(row.get("title", String.class))
+                .startsAt(row.get("starts_at", LocalDateTime.class))
+                .endsAt(row.get("ends_at", LocalDateTime.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventStatsRepository;
+import dev.codedbydavid.eventhub.infrastructure.persistence.DatabasePlatform;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * The daily-count upsert of {@link EventStatsRepositoryAdapter} over R2DBC. Backfilling and reads stay with the
+ * JDBC adapter, which is present on both stacks.
+ */
+public class R2dbcEventStatsRepositoryAdapter implements ReactiveEventStatsRepository {
+
+    private final DatabaseClient databaseClient;
+    private final String upsertSql;
+
+    public R2dbcEventStatsRepositoryAdapter(DatabaseClient databaseClient, DatabasePlatform databasePlatform) {
+        this.databaseClient = databaseClient;
+        this.upsertSql = databasePlatform == DatabasePlatform.POSTGRESQL
+                ? EventStatsRepositoryAdapter.POSTGRES_UPSERT : EventStatsRepositoryAdapter.STANDARD_UPSERT;
+    }
+
+    @Override
+    public Mono<Void> incrementDailyCount(LocalDate day, long delta) {
+        return databaseClient.sql(upsertSql)
+                .bind("day", day)
+                .bind("delta", delta)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+}
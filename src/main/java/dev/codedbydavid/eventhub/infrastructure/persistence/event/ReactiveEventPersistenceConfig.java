@@ -0,0 +1,86 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventRepository;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventStatsRepository;
+import dev.codedbydavid.eventhub.infrastructure.persistence.DatabasePlatform;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * R2DBC side of the reactive profile. The pool and its transaction manager are built here rather than by Boot's
+ * R2DBC auto-configuration: a {@code ReactiveTransactionManager} bean would sit next to the JPA one that schema
+ * setup, the daily-count backfill and the other (blocking) adapters still rely on.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(ReactivePersistenceProperties.class)
+public class ReactiveEventPersistenceConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool eventConnectionPool(ReactivePersistenceProperties properties,
+                                              @Value("${spring.datasource.url:}") String jdbcUrl,
+                                              @Value("${spring.datasource.username:}") String username,
+                                              @Value("${spring.datasource.password:}") String password) {
+        String url = properties.url() != null && !properties.url().isBlank() ? properties.url() : r2dbcUrl(jdbcUrl);
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .maxSize(properties.maxPoolSize())
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient eventDatabaseClient(ConnectionPool eventConnectionPool) {
+        return DatabaseClient.create(eventConnectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator eventTransactionalOperator(ConnectionPool eventConnectionPool) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(eventConnectionPool));
+    }
+
+    @Bean
+    public ReactiveEventRepository reactiveEventRepository(DatabaseClient eventDatabaseClient,
+                                                           DatabasePlatform databasePlatform) {
+        return new R2dbcEventRepositoryAdapter(eventDatabaseClient, databasePlatform);
+    }
+
+    @Bean
+    public ReactiveEventStatsRepository reactiveEventStatsRepository(DatabaseClient eventDatabaseClient,
+                                                                     DatabasePlatform databasePlatform) {
+        return new R2dbcEventStatsRepositoryAdapter(eventDatabaseClient, databasePlatform);
+    }
+
+    /**
+     * The R2DBC URL for a JDBC one: PostgreSQL ({@code jdbc:postgresql://host:port/db}, JDBC-only query parameters
+     * dropped) and in-memory H2 ({@code jdbc:h2:mem:name;settings}). Anything else needs
+     * {@code eventhub.reactive.r2dbc.url}.
+     */
+    static String r2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl.startsWith("jdbc:postgresql://")) {
+            int query = jdbcUrl.indexOf('?');
+            return "r2dbc:" + jdbcUrl.substring("jdbc:".length(), query < 0 ? jdbcUrl.length() : query);
+        }
+        if (jdbcUrl.startsWith("jdbc:h2:mem:")) {
+            return "r2dbc:h2:mem:///" + jdbcUrl.substring("jdbc:h2:mem:".length());
+        }
+        throw new IllegalStateException(
+                "Cannot derive an R2DBC URL from spring.datasource.url '" + jdbcUrl
+                        + "'; set eventhub.reactive.r2dbc.url");
+    }
+}
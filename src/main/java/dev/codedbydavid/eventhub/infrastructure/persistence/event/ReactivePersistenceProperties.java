@@ -0,0 +1,15 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * R2DBC connection of the reactive profile. Without {@code url} it is derived from {@code spring.datasource.url}
+ * (PostgreSQL and in-memory H2), so both stacks point at the same database by default.
+ */
+@ConfigurationProperties(prefix = "eventhub.reactive.r2dbc")
+public record ReactivePersistenceProperties(
+        String url,
+        @DefaultValue("20") int maxPoolSize
+) {
+}
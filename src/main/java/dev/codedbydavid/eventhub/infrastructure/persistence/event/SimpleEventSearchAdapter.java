@@ -0,0 +1,37 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventSearchRepository;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Portable fallback used on H2 (local development, unit tests): case-insensitive substring
+ * match, titles starting with the query first. Not index-backed; fine for small datasets only.
+ */
+class SimpleEventSearchAdapter implements EventSearchRepository {
+
+    private static final String SEARCH_JPQL = EventQueryCompiler.SELECT_ALL + """
+             where lower(e.title) like :contains escape '!'
+            order by case when lower(e.title) like :prefix escape '!' then 0 else 1 end,
+                     e.title asc, e.id asc
+            """;
+
+    private final EntityManager entityManager;
+
+    SimpleEventSearchAdapter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Event> search(String query, int limit) {
+        String escaped = EventQueryCompiler.escapeLike(query.toLowerCase(Locale.ROOT));
+        return EventQueryCompiler.toEvents(entityManager.createQuery(SEARCH_JPQL, Object[].class)
+                .setParameter("contains", "%" + escaped + "%")
+                .setParameter("prefix", escaped + "%")
+                .setMaxResults(limit)
+                .getResultList(), EventQueryCompiler.ALL_COLUMNS);
+    }
+}
@@ -0,0 +1,70 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.idempotency;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stored {@code Idempotency-Key}. The response columns are {@code null} while the first request is in flight.
+ * Written only through {@link JdbcIdempotencyStore}.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        // Backs the TTL purge
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+public class IdempotencyKeyJpaEntity {
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    // Token of the claim executing the request; renew/complete/release must present it
+    @Column(length = 36)
+    private String owner;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_etag", length = 255)
+    private String responseEtag;
+
+    @Column(name = "response_body", length = 65536)
+    private byte[] responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyKeyJpaEntity() {
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public Integer getResponseStatus() {
+        return responseStatus;
+    }
+
+    public String getResponseEtag() {
+        return responseEtag;
+    }
+
+    public byte[] getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
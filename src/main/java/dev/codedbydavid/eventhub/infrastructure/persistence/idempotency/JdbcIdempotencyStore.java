@@ -0,0 +1,150 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.idempotency;
+
+import dev.codedbydavid.eventhub.application.idempotency.IdempotencyRecord;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotencyStore;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotentResponse;
+import dev.codedbydavid.eventhub.infrastructure.persistence.DatabasePlatform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IdempotencyStore} in the {@code idempotency_keys} table, shared by all instances. Each call is its
+ * own auto-committed statement, so a claim is visible to other instances before the request executes.
+ * Renewing, completing and releasing match the claim's {@code owner} too, so a request whose lease was taken
+ * over can never touch the new owner's row. Expired rows are ignored on read and deleted by a periodic purge.
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+
+    // Insert-if-absent in one statement; an expired row is taken over in the same statement
+    private static final String POSTGRES_CLAIM = """
+            INSERT INTO idempotency_keys (idempotency_key, fingerprint, owner, expires_at) VALUES (?, ?, ?, ?)
+            ON CONFLICT (idempotency_key) DO UPDATE
+                SET fingerprint = EXCLUDED.fingerprint, owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at,
+                    response_status = NULL, response_etag = NULL, response_body = NULL
+                WHERE idempotency_keys.expires_at < ?
+            """;
+
+    private static final String STANDARD_CLAIM = """
+            MERGE INTO idempotency_keys t
+            USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(64)), CAST(? AS VARCHAR(36)),
+                    CAST(? AS TIMESTAMP)))
+                s (idempotency_key, fingerprint, owner, expires_at)
+            ON t.idempotency_key = s.idempotency_key
+            WHEN MATCHED AND t.expires_at < ? THEN UPDATE
+                SET fingerprint = s.fingerprint, owner = s.owner, expires_at = s.expires_at,
+                    response_status = NULL, response_etag = NULL, response_body = NULL
+            WHEN NOT MATCHED THEN INSERT (idempotency_key, fingerprint, owner, expires_at)
+                VALUES (s.idempotency_key, s.fingerprint, s.owner, s.expires_at)
+            """;
+
+    private static final String SELECT = """
+            SELECT idempotency_key, fingerprint, owner, response_status, response_etag, response_body, expires_at
+            FROM idempotency_keys WHERE idempotency_key = ? AND expires_at >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String claimSql;
+    private final ScheduledExecutorService purger;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, DatabasePlatform databasePlatform) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.claimSql = databasePlatform == DatabasePlatform.POSTGRESQL ? POSTGRES_CLAIM : STANDARD_CLAIM;
+        this.purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-key-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void schedulePurge(Duration interval) {
+        purger.scheduleWithFixedDelay(() -> {
+            try {
+                int purged = purgeExpired(Instant.now());
+                if (purged > 0) {
+                    log.debug("Purged {} expired idempotency keys", purged);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Idempotency key purge failed", ex);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint, String owner, Instant leaseExpiresAt) {
+        LocalDateTime now = utc(Instant.now());
+        int claimed = jdbcTemplate.update(claimSql, key, fingerprint, owner, utc(leaseExpiresAt), now);
+        if (claimed > 0) {
+            return Optional.empty();
+        }
+        Optional<IdempotencyRecord> existing = find(key);
+        // Expired between the two statements: report it as in flight; the caller's poll sees it gone and re-claims
+        return existing.isPresent() ? existing
+                : Optional.of(new IdempotencyRecord(key, fingerprint, null, null, leaseExpiresAt));
+    }
+
+    @Override
+    public boolean renew(String key, String owner, Instant leaseExpiresAt) {
+        return jdbcTemplate.update("""
+                UPDATE idempotency_keys SET expires_at = ?
+                WHERE idempotency_key = ? AND owner = ? AND response_status IS NULL
+                """, utc(leaseExpiresAt), key, owner) > 0;
+    }
+
+    @Override
+    public boolean complete(String key, String owner, IdempotentResponse response, Instant expiresAt) {
+        return jdbcTemplate.update("""
+                UPDATE idempotency_keys SET response_status = ?, response_etag = ?, response_body = ?, expires_at = ?
+                WHERE idempotency_key = ? AND owner = ? AND response_status IS NULL
+                """, response.status(), response.etag(), response.body(), utc(expiresAt), key, owner) > 0;
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        jdbcTemplate.update("""
+                DELETE FROM idempotency_keys WHERE idempotency_key = ? AND owner = ? AND response_status IS NULL
+                """, key, owner);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        List<IdempotencyRecord> rows = jdbcTemplate.query(SELECT, (rs, rowNum) -> {
+            int status = rs.getInt("response_status");
+            IdempotentResponse response = rs.wasNull() ? null
+                    : new IdempotentResponse(status, rs.getString("response_etag"), rs.getBytes("response_body"));
+            return new IdempotencyRecord(
+                    rs.getString("idempotency_key"),
+                    rs.getString("fingerprint"),
+                    rs.getString("owner"),
+                    response,
+                    rs.getObject("expires_at", LocalDateTime.class).toInstant(ZoneOffset.UTC));
+        }, key, utc(Instant.now()));
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", utc(now));
+    }
+
+    @Override
+    public void close() {
+        purger.shutdownNow();
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
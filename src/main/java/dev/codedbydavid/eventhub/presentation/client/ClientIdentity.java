@@ -0,0 +1,32 @@
+package dev.codedbydavid.eventhub.presentation.client;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Who is calling, for per-client state such as rate-limit buckets and idempotency keys.
+ *
+ * <p>An API key only counts as an identity when it is one of the configured keys; an unchecked header would let a
+ * caller mint a fresh identity per request just by changing it. Every other caller, including one sending an
+ * unknown key, is identified by remote address (set {@code server.forward-headers-strategy} behind a proxy).
+ */
+public final class ClientIdentity {
+
+    private final String header;
+    private final Set<String> apiKeys;
+
+    public ClientIdentity(String header, Collection<String> apiKeys) {
+        this.header = header;
+        this.apiKeys = Set.copyOf(apiKeys);
+    }
+
+    public String of(HttpServletRequest request) {
+        String key = request.getHeader(header);
+        if (key != null && apiKeys.contains(key)) {
+            return "key:" + key;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
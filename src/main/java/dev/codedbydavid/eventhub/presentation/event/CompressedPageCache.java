@@ -0,0 +1,111 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzipped list pages keyed by their strong ETag, which changes whenever any event on the page does: a page requested
+ * again is compressed once rather than once per request. Bodies below the compression threshold go out as they are.
+ * The gzipped representation is a different entity, so it is sent under its own strong tag ({@link #tag}, RFC 9110
+ * section 8.8.3). Dynamic responses without a tag are left to the container's {@code server.compression}.
+ */
+@Component
+public class CompressedPageCache {
+
+    static final String CACHE_NAME = "event-pages-gzip";
+
+    private final Cache<String, byte[]> cache;
+    private final long minimumBytes;
+
+    public CompressedPageCache(MeterRegistry meterRegistry,
+                               @Value("${eventhub.cache.compressed-pages.maximum-bytes:33554432}") long maximumBytes,
+                               @Value("${server.compression.min-response-size:2KB}") DataSize minimumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String etag, byte[] gzip) -> gzip.length)
+                .recordStats()
+                .build();
+        this.minimumBytes = minimumSize.toBytes();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @param etag the page's tag, including its encoding
+     */
+    Body body(String etag, String acceptEncoding, Supplier<byte[]> render) {
+        if (!acceptsGzip(acceptEncoding)) {
+            return new Body(render.get(), false);
+        }
+        byte[] cached = cache.getIfPresent(etag);
+        if (cached != null) {
+            return new Body(cached, true);
+        }
+        byte[] bytes = render.get();
+        if (bytes.length < minimumBytes) {
+            return new Body(bytes, false);
+        }
+        byte[] gzip = gzip(bytes);
+        cache.put(etag, gzip);
+        return new Body(gzip, true);
+    }
+
+    /**
+     * Tag of the gzipped representation of the body tagged {@code etag}, e.g. {@code "abc+gzip"}.
+     */
+    static String tag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "+gzip\"";
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].strip();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equalsIgnoreCase("x-gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].strip();
+                if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    record Body(byte[] bytes, boolean gzip) {
+    }
+}
@@ -0,0 +1,146 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.application.event.BatchItemError;
+import dev.codedbydavid.eventhub.application.event.BulkResult;
+import dev.codedbydavid.eventhub.application.event.CreateEventsUseCase;
+import dev.codedbydavid.eventhub.application.event.DeleteEventsEndedBeforeUseCase;
+import dev.codedbydavid.eventhub.application.event.EventDraft;
+import dev.codedbydavid.eventhub.application.event.InvalidEventBatchException;
+import dev.codedbydavid.eventhub.application.event.ShiftEventsUseCase;
+import dev.codedbydavid.eventhub.presentation.event.dto.BulkOperationResponse;
+import dev.codedbydavid.eventhub.presentation.event.dto.BulkShiftEventsRequest;
+import dev.codedbydavid.eventhub.presentation.event.dto.CreateEventRequest;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import dev.codedbydavid.eventhub.presentation.exception.InvalidBatchException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collection-level operations: custom methods ({@code /events:verb}) and bulk delete. Kept apart from
+ * {@link EventController} because its {@code /api/v1/events} prefix would turn {@code :batch} into a path segment.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1")
+@Tag(name = "Events", description = "Event management API")
+public class EventBatchController {
+
+        private final CreateEventsUseCase createEventsUseCase;
+        private final DeleteEventsEndedBeforeUseCase deleteEventsEndedBeforeUseCase;
+        private final ShiftEventsUseCase shiftEventsUseCase;
+        private final Validator validator;
+
+        public EventBatchController(CreateEventsUseCase createEventsUseCase,
+                        DeleteEventsEndedBeforeUseCase deleteEventsEndedBeforeUseCase,
+                        ShiftEventsUseCase shiftEventsUseCase,
+                        Validator validator) {
+                this.createEventsUseCase = createEventsUseCase;
+                this.deleteEventsEndedBeforeUseCase = deleteEventsEndedBeforeUseCase;
+                this.shiftEventsUseCase = shiftEventsUseCase;
+                this.validator = validator;
+        }
+
+        @Operation(summary = "Create many events at once",
+                        description = "All-or-nothing: every item is validated first and all errors are reported "
+                                        + "with their index; valid batches are inserted with JDBC batching in one transaction.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "201", description = "Events created, in request order"),
+                        @ApiResponse(responseCode = "400", description = "Validation error in one or more items")
+        })
+        @PostMapping("/events:batch")
+        public ResponseEntity<List<EventResponse>> createEvents(@RequestBody List<CreateEventRequest> requests) {
+                if (requests.isEmpty() || requests.size() > CreateEventsUseCase.MAX_BATCH_SIZE) {
+                        throw new InvalidBatchException(List.of(
+                                        "size: must be between 1 and " + CreateEventsUseCase.MAX_BATCH_SIZE));
+                }
+
+                // One pass over the batch: bean constraints per item, then domain rules for the items that passed
+                // them, merged into one report ordered by index
+                List<BatchItemError> errors = new ArrayList<>();
+                List<EventDraft> drafts = new ArrayList<>(requests.size());
+                for (int i = 0; i < requests.size(); i++) {
+                        CreateEventRequest request = requests.get(i);
+                        if (request == null) {
+                                errors.add(new BatchItemError(i, null, "must not be null"));
+                                drafts.add(null);
+                                continue;
+                        }
+                        Set<ConstraintViolation<CreateEventRequest>> violations = validator.validate(request);
+                        for (ConstraintViolation<CreateEventRequest> violation : violations) {
+                                errors.add(new BatchItemError(i, violation.getPropertyPath().toString(),
+                                                violation.getMessage()));
+                        }
+                        drafts.add(violations.isEmpty()
+                                        ? new EventDraft(
+                                                        request.getTitle(),
+                                                        toUtc(request.getStartsAt()),
+                                                        toUtc(request.getEndsAt()))
+                                        : null);
+                }
+                errors.addAll(createEventsUseCase.validate(drafts));
+                if (!errors.isEmpty()) {
+                        errors.sort(Comparator.comparingInt(BatchItemError::index));
+                        throw new InvalidEventBatchException(errors);
+                }
+
+                List<EventResponse> responses = EventResponse.from(createEventsUseCase.execute(drafts));
+                return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+        }
+
+        @Operation(summary = "Delete all events that ended before an instant",
+                        description = "Runs as chunked set-based deletes, one transaction per chunk; events without "
+                                        + "endsAt are kept. Re-running after a failure finishes the job.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Number of deleted events"),
+                        @ApiResponse(responseCode = "400", description = "Missing or invalid endsBefore")
+        })
+        @DeleteMapping(value = "/events", params = "endsBefore")
+        public BulkOperationResponse deleteEventsEndedBefore(@RequestParam Instant endsBefore) {
+                return toResponse(deleteEventsEndedBeforeUseCase.execute(toUtc(endsBefore)));
+        }
+
+        @Operation(summary = "Shift all events starting in a range",
+                        description = "Moves startsAt and endsAt of every event with startsFrom <= startsAt < startsBefore "
+                                        + "by shiftBy (ISO-8601 duration), as chunked set-based updates.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Number of shifted events"),
+                        @ApiResponse(responseCode = "400", description = "Validation error")
+        })
+        @PostMapping("/events:bulkUpdate")
+        public BulkOperationResponse shiftEvents(@Valid @RequestBody BulkShiftEventsRequest request) {
+                return toResponse(shiftEventsUseCase.execute(
+                                toUtc(request.getStartsFrom()),
+                                toUtc(request.getStartsBefore()),
+                                request.getShiftBy()));
+        }
+
+        private static BulkOperationResponse toResponse(BulkResult result) {
+                return new BulkOperationResponse(result.affected(), result.chunks());
+        }
+
+        private static LocalDateTime toUtc(Instant instant) {
+                return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+        }
+}
@@ -2,25 +2,61 @@ package dev.codedbydavid.eventhub.presentation.event;
 
 import dev.codedbydavid.eventhub.application.event.CreateEventUseCase;
 import dev.codedbydavid.eventhub.application.event.DeleteEventUseCase;
+import dev.codedbydavid.eventhub.application.event.EventPage;
+import dev.codedbydavid.eventhub.application.event.EventPatch;
+import dev.codedbydavid.eventhub.application.event.ExportEventsUseCase;
+import dev.codedbydavid.eventhub.application.event.GetEventStatsUseCase;
 import dev.codedbydavid.eventhub.application.event.GetEventUseCase;
 import dev.codedbydavid.eventhub.application.event.ListEventsUseCase;
+import dev.codedbydavid.eventhub.application.event.SearchEventsUseCase;
+import dev.codedbydavid.eventhub.application.event.StatsBucket;
 import dev.codedbydavid.eventhub.application.event.UpdateEventUseCase;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotencyService;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotentResponse;
 import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
+import dev.codedbydavid.eventhub.presentation.client.ClientIdentity;
 import dev.codedbydavid.eventhub.presentation.event.dto.CreateEventRequest;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventCountBucketResponse;
 import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
 import dev.codedbydavid.eventhub.presentation.event.dto.UpdateEventRequest;
+import dev.codedbydavid.eventhub.presentation.exception.InvalidQueryParameterException;
+import dev.codedbydavid.eventhub.presentation.exception.PreconditionFailedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,86 +65,367 @@ import org.slf4j.LoggerFactory;
 
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/events")
 @Tag(name = "Events", description = "Event management API")
 public class EventController {
 
         private static final Logger log = LoggerFactory.getLogger(EventController.class);
 
+        static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+        static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+        static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+        static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
         private final CreateEventUseCase createEventUseCase;
         private final GetEventUseCase getEventUseCase;
         private final ListEventsUseCase listEventsUseCase;
         private final UpdateEventUseCase updateEventUseCase;
         private final DeleteEventUseCase deleteEventUseCase;
+        private final ExportEventsUseCase exportEventsUseCase;
+        private final SearchEventsUseCase searchEventsUseCase;
+        private final GetEventStatsUseCase getEventStatsUseCase;
+        private final ObjectMapper objectMapper;
+        // Resolves its serializers once, instead of per call as ObjectMapper.writeValue* does
+        private final ObjectWriter createRequestWriter;
+        private final EventJsonCache eventJsonCache;
+        private final EventEncodings eventEncodings;
+        private final CompressedPageCache compressedPageCache;
+        private final IdempotencyService idempotencyService;
+        private final ClientIdentity clientIdentity;
+        private final int exportFlushEvery;
 
         public EventController(CreateEventUseCase createEventUseCase,
                         GetEventUseCase getEventUseCase,
                         ListEventsUseCase listEventsUseCase,
                         UpdateEventUseCase updateEventUseCase,
-                        DeleteEventUseCase deleteEventUseCase) {
+                        DeleteEventUseCase deleteEventUseCase,
+                        ExportEventsUseCase exportEventsUseCase,
+                        SearchEventsUseCase searchEventsUseCase,
+                        GetEventStatsUseCase getEventStatsUseCase,
+                        ObjectMapper objectMapper,
+                        EventJsonCache eventJsonCache,
+                        EventEncodings eventEncodings,
+                        CompressedPageCache compressedPageCache,
+                        IdempotencyService idempotencyService,
+                        ClientIdentity clientIdentity,
+                        @Value("${eventhub.export.flush-every:500}") int exportFlushEvery) {
                 this.createEventUseCase = createEventUseCase;
                 this.getEventUseCase = getEventUseCase;
                 this.listEventsUseCase = listEventsUseCase;
                 this.updateEventUseCase = updateEventUseCase;
                 this.deleteEventUseCase = deleteEventUseCase;
+                this.exportEventsUseCase = exportEventsUseCase;
+                this.searchEventsUseCase = searchEventsUseCase;
+                this.getEventStatsUseCase = getEventStatsUseCase;
+                this.objectMapper = objectMapper;
+                this.createRequestWriter = objectMapper.writerFor(CreateEventRequest.class);
+                this.eventJsonCache = eventJsonCache;
+                this.eventEncodings = eventEncodings;
+                this.compressedPageCache = compressedPageCache;
+                this.idempotencyService = idempotencyService;
+                this.clientIdentity = clientIdentity;
+                this.exportFlushEvery = exportFlushEvery;
         }
 
-        @Operation(summary = "Create a new event")
+        @Operation(summary = "Create a new event",
+                        description = "With an Idempotency-Key header, retries of the same request create the event "
+                                        + "only once: duplicates get the original response (marked Idempotent-Replayed), "
+                                        + "waiting for it if the original is still running. Keys are scoped by client "
+                                        + "(API key, else remote address).")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "201", description = "Event created successfully"),
-                        @ApiResponse(responseCode = "400", description = "Validation error")
+                        @ApiResponse(responseCode = "201", description = "Event created successfully",
+                                        content = @Content(mediaType = "application/json",
+                                                        schema = @Schema(implementation = EventResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Validation error"),
+                        @ApiResponse(responseCode = "409", description = "Original request with this key still in progress"),
+                        @ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different request")
         })
         @PostMapping
-        public ResponseEntity<EventResponse> createEvent(@Valid @RequestBody CreateEventRequest request) {
+        public ResponseEntity<byte[]> createEvent(@Valid @RequestBody CreateEventRequest request,
+                        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                        HttpServletRequest httpRequest) {
+                EventEncoding encoding = EventEncoding.negotiate(accept);
+                if (idempotencyKey == null) {
+                        Event event = create(request);
+                        return encoded(ResponseEntity.status(HttpStatus.CREATED), encoding)
+                                        .eTag(encoding.tag(EventETags.of(event)))
+                                        .body(eventEncodings.event(encoding, EventResponse.from(event)));
+                }
 
-                Event event = createEventUseCase.execute(
+                // Stored as JSON, so a retry asking for another encoding still replays the same event
+                String client = clientIdentity.of(httpRequest);
+                IdempotencyService.Outcome outcome = idempotencyService.execute(client, idempotencyKey, json(createRequestWriter, request), () -> {
+                        Event event = create(request);
+                        return new IdempotentResponse(HttpStatus.CREATED.value(), EventETags.of(event),
+                                        eventEncodings.event(EventEncoding.JSON, EventResponse.from(event)));
+                });
+                IdempotentResponse response = outcome.response();
+                ResponseEntity.BodyBuilder builder = encoded(ResponseEntity.status(response.status()), encoding);
+                if (response.etag() != null) {
+                        builder.eTag(encoding.tag(response.etag()));
+                }
+                if (outcome.replayed()) {
+                        builder.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+                }
+                return builder.body(eventEncodings.fromJson(encoding, response.body()));
+        }
+
+        private Event create(CreateEventRequest request) {
+                return createEventUseCase.execute(
                                 request.getTitle(),
                                 LocalDateTime.ofInstant(request.getStartsAt(), ZoneOffset.UTC),
                                 LocalDateTime.ofInstant(request.getEndsAt(), ZoneOffset.UTC));
-                return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(event));
         }
 
-        @Operation(summary = "Get an event by ID")
+        private static byte[] json(ObjectWriter writer, Object value) {
+                try {
+                        return writer.writeValueAsBytes(value);
+                } catch (JsonProcessingException ex) {
+                        throw new UncheckedIOException(ex);
+                }
+        }
+
+        @Operation(summary = "Get an event by ID",
+                        description = "Optional fields=id,title,... returns only those fields. "
+                                        + "Responses carry a strong ETag; a matching If-None-Match yields 304.")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Event found"),
+                        @ApiResponse(responseCode = "200", description = "Event found",
+                                        content = @Content(schema = @Schema(implementation = EventResponse.class))),
+                        @ApiResponse(responseCode = "304", description = "Event unchanged since the given ETag"),
+                        @ApiResponse(responseCode = "400", description = "Unknown field requested"),
                         @ApiResponse(responseCode = "404", description = "Event not found")
         })
         @GetMapping("/{id}")
-        public ResponseEntity<EventResponse> getEvent(@PathVariable UUID id) {
-                Event event = getEventUseCase.execute(id);
-                return ResponseEntity.ok(toResponse(event));
+        public ResponseEntity<?> getEvent(@PathVariable UUID id,
+                        @RequestParam(required = false) String fields,
+                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                Set<EventField> selected = EventFieldSelection.parse(fields);
+                boolean all = EventFieldSelection.isAll(selected);
+                Event event = all ? getEventUseCase.execute(id) : getEventUseCase.execute(id, selected);
+
+                EventEncoding encoding = EventEncoding.negotiate(accept);
+                String etag = encoding.tag(EventETags.of(event, selected));
+                if (EventETags.noneMatchHit(ifNoneMatch, etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+                }
+                ResponseEntity.BodyBuilder response = encoded(ResponseEntity.ok(), encoding).eTag(etag);
+                if (!all) {
+                        return response.body(EventFieldSelection.render(event, selected));
+                }
+                return response.body(encoding == EventEncoding.JSON
+                                ? eventJsonCache.bytes(event, EventResponse::from)
+                                : eventEncodings.event(encoding, EventResponse.from(event)));
         }
 
-        @Operation(summary = "List all events")
-        @ApiResponse(responseCode = "200", description = "List of events")
+        @Operation(summary = "List events",
+                        description = "Keyset-paginated, ordered by startsAt then id. "
+                                        + "When more events exist, the " + NEXT_CURSOR_HEADER
+                                        + " response header carries the cursor for the next page. "
+                                        + "from/to select events overlapping the window; titlePrefix is case-sensitive. "
+                                        + "Optional fields=id,title,... returns only those fields. "
+                                        + "Each page carries a strong ETag; a matching If-None-Match yields 304.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Page of events",
+                                        content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventResponse.class)))),
+                        @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor, limit, filter or fields")
+        })
         @GetMapping
-        public ResponseEntity<List<EventResponse>> listEvents() {
-                List<Event> events = listEventsUseCase.execute();
-                List<EventResponse> responses = events.stream()
-                                .map(this::toResponse)
+        public ResponseEntity<?> listEvents(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "" + ListEventsUseCase.DEFAULT_LIMIT) int limit,
+                        @RequestParam(required = false) Instant from,
+                        @RequestParam(required = false) Instant to,
+                        @RequestParam(required = false) String titlePrefix,
+                        @RequestParam(required = false) Instant createdAfter,
+                        @RequestParam(required = false) Instant updatedAfter,
+                        @RequestParam(required = false) String fields,
+                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+                Set<EventField> selected = EventFieldSelection.parse(fields);
+                if (limit < 1 || limit > ListEventsUseCase.MAX_LIMIT) {
+                        throw new InvalidQueryParameterException("limit",
+                                        "must be between 1 and " + ListEventsUseCase.MAX_LIMIT);
+                }
+                EventCursor after = cursor != null ? EventCursorCodec.decode(cursor) : null;
+                EventFilter filter = new EventFilter(
+                                toUtc(from),
+                                toUtc(to),
+                                titlePrefix,
+                                toUtc(createdAfter),
+                                toUtc(updatedAfter));
+
+                EventPage page = listEventsUseCase.execute(filter, after, limit, selected);
+                EventEncoding encoding = EventEncoding.negotiate(accept);
+                String etag = encoding.tag(EventETags.of(page, selected));
+                boolean full = EventFieldSelection.isAll(selected);
+                String gzipEtag = CompressedPageCache.tag(etag);
+                String notModifiedEtag = EventETags.noneMatchHit(ifNoneMatch, etag) ? etag
+                                : full && CompressedPageCache.acceptsGzip(acceptEncoding)
+                                                && EventETags.noneMatchHit(ifNoneMatch, gzipEtag) ? gzipEtag : null;
+
+                ResponseEntity.BodyBuilder response = ResponseEntity.status(notModifiedEtag != null ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+                if (page.hasNext()) {
+                        response.header(NEXT_CURSOR_HEADER, EventCursorCodec.encode(page.nextCursor()));
+                }
+                if (notModifiedEtag != null) {
+                        return response.eTag(notModifiedEtag).build();
+                }
+
+                response.contentType(encoding.mediaType());
+                if (full) {
+                        CompressedPageCache.Body body = compressedPageCache.body(etag, acceptEncoding,
+                                        () -> eventEncodings.events(encoding, EventResponse.from(page.events())));
+                        if (body.gzip()) {
+                                // Already encoded, so the container's server.compression leaves it alone
+                                response.eTag(gzipEtag).header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                        } else {
+                                response.eTag(etag);
+                        }
+                        return response.body(body.bytes());
+                }
+                response.eTag(etag);
+                List<Map<String, Object>> bodies = new ArrayList<>(page.events().size());
+                for (Event event : page.events()) {
+                        bodies.add(EventFieldSelection.render(event, selected));
+                }
+                return response.body(bodies);
+        }
+
+        @Operation(summary = "Search events by title",
+                        description = "Full-text and fuzzy title match, best match first.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Matching events",
+                                        content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventResponse.class)))),
+                        @ApiResponse(responseCode = "400", description = "Missing query or invalid limit")
+        })
+        @GetMapping("/search")
+        public ResponseEntity<byte[]> searchEvents(
+                        @RequestParam String q,
+                        @RequestParam(defaultValue = "" + SearchEventsUseCase.DEFAULT_LIMIT) int limit,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                if (q.isBlank()) {
+                        throw new InvalidQueryParameterException("q", "must not be blank");
+                }
+                if (limit < 1 || limit > SearchEventsUseCase.MAX_LIMIT) {
+                        throw new InvalidQueryParameterException("limit",
+                                        "must be between 1 and " + SearchEventsUseCase.MAX_LIMIT);
+                }
+                EventEncoding encoding = EventEncoding.negotiate(accept);
+                List<EventResponse> responses = EventResponse.from(searchEventsUseCase.execute(q, limit));
+                return encoded(ResponseEntity.ok(), encoding).body(eventEncodings.events(encoding, responses));
+        }
+
+        @Operation(summary = "Count events per day, week or month",
+                        description = "Buckets by the UTC day of startsAt over [from, to] (inclusive dates). "
+                                        + "Served from an incrementally maintained daily rollup.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "One entry per bucket, empty buckets included"),
+                        @ApiResponse(responseCode = "400", description = "Invalid bucket or date range")
+        })
+        @GetMapping("/stats")
+        public ResponseEntity<List<EventCountBucketResponse>> getEventStats(
+                        @RequestParam(defaultValue = "day") String bucket,
+                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+                StatsBucket statsBucket;
+                try {
+                        statsBucket = StatsBucket.valueOf(bucket.strip().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException ex) {
+                        throw new InvalidQueryParameterException("bucket", "must be one of day, week, month");
+                }
+
+                List<EventCountBucketResponse> responses = getEventStatsUseCase.execute(statsBucket, from, to).stream()
+                                .map(b -> new EventCountBucketResponse(b.start(), b.count()))
                                 .collect(Collectors.toList());
                 return ResponseEntity.ok(responses);
         }
 
-        @Operation(summary = "Update an event")
+        @Operation(summary = "Export all events as NDJSON",
+                        description = "Streams one JSON object per line straight from a database cursor.")
+        @ApiResponse(responseCode = "200", description = "Newline-delimited JSON stream of events")
+        @GetMapping(value = "/export", produces = "application/x-ndjson")
+        public ResponseEntity<StreamingResponseBody> exportEvents() {
+                StreamingResponseBody body = outputStream -> {
+                        try (NdjsonEventWriter writer = new NdjsonEventWriter(objectMapper, outputStream, exportFlushEvery)) {
+                                exportEventsUseCase.execute(event -> writer.accept(EventResponse.from(event)));
+                        }
+                };
+                return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+        }
+
+        @Operation(summary = "Update an event",
+                        description = "Null fields keep their value. With If-Match, the update only applies while the "
+                                        + "event is still at that ETag's version (412 otherwise); without it, a concurrent "
+                                        + "change is never overwritten but re-applied on top of.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Event updated successfully"),
                         @ApiResponse(responseCode = "400", description = "Validation error"),
-                        @ApiResponse(responseCode = "404", description = "Event not found")
+                        @ApiResponse(responseCode = "404", description = "Event not found"),
+                        @ApiResponse(responseCode = "412", description = "Event changed since the If-Match ETag")
         })
         @PutMapping("/{id}")
-        public ResponseEntity<EventResponse> updateEvent(@PathVariable UUID id,
-                        @Valid @RequestBody UpdateEventRequest request) {
-                Event event = updateEventUseCase.execute(
-                                id,
+        public ResponseEntity<byte[]> updateEvent(@PathVariable UUID id,
+                        @Valid @RequestBody UpdateEventRequest request,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                EventPatch patch = new EventPatch(
                                 request.getTitle(),
-                                request.getStartsAt() != null
-                                                ? LocalDateTime.ofInstant(request.getStartsAt(), ZoneOffset.UTC)
-                                                : null,
-                                request.getEndsAt() != null
-                                                ? LocalDateTime.ofInstant(request.getEndsAt(), ZoneOffset.UTC)
-                                                : null);
-                return ResponseEntity.ok(toResponse(event));
+                                toUtc(request.getStartsAt()),
+                                toUtc(request.getEndsAt()),
+                                false);
+                return updated(update(id, patch, null, ifMatch), EventEncoding.negotiate(accept));
+        }
+
+        @Operation(summary = "Patch an event (JSON Merge Patch)",
+                        description = "Only members present in the document change; \"endsAt\": null removes the end time. "
+                                        + "A \"version\" member, or an If-Match ETag, pins the version the patch applies to.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Event updated successfully"),
+                        @ApiResponse(responseCode = "400", description = "Invalid patch or resulting event"),
+                        @ApiResponse(responseCode = "404", description = "Event not found"),
+                        @ApiResponse(responseCode = "409", description = "Event is no longer at the given version"),
+                        @ApiResponse(responseCode = "412", description = "Event changed since the If-Match ETag")
+        })
+        @PatchMapping(value = "/{id}", consumes = EventMergePatch.MEDIA_TYPE)
+        public ResponseEntity<byte[]> patchEvent(@PathVariable UUID id,
+                        @RequestBody Map<String, Object> document,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                EventMergePatch mergePatch = EventMergePatch.parse(document);
+                return updated(update(id, mergePatch.patch(), mergePatch.version(), ifMatch),
+                                EventEncoding.negotiate(accept));
+        }
+
+        private Event update(UUID id, EventPatch patch, Long bodyVersion, String ifMatch) {
+                Long ifMatchVersion = EventETags.expectedVersion(ifMatch, id);
+                if (ifMatchVersion == null) {
+                        return updateEventUseCase.execute(id, patch, bodyVersion);
+                }
+                if (bodyVersion != null && !bodyVersion.equals(ifMatchVersion)) {
+                        throw new PreconditionFailedException("If-Match and the version member name different versions");
+                }
+                try {
+                        return updateEventUseCase.execute(id, patch, ifMatchVersion);
+                } catch (EventVersionConflictException ex) {
+                        // A failed If-Match is a precondition failure, not a conflict
+                        throw new PreconditionFailedException(ex.getMessage());
+                }
+        }
+
+        private ResponseEntity<byte[]> updated(Event event, EventEncoding encoding) {
+                return encoded(ResponseEntity.ok(), encoding)
+                                .eTag(encoding.tag(EventETags.of(event)))
+                                .body(eventEncodings.event(encoding, EventResponse.from(event)));
+        }
+
+        private static ResponseEntity.BodyBuilder encoded(ResponseEntity.BodyBuilder builder, EventEncoding encoding) {
+                return builder.contentType(encoding.mediaType()).varyBy(HttpHeaders.ACCEPT);
         }
 
         @Operation(summary = "Delete an event")
@@ -122,13 +439,7 @@ public class EventController {
                 deleteEventUseCase.execute(id);
         }
 
-        private EventResponse toResponse(Event event) {
-                return new EventResponse(
-                                event.getId(),
-                                event.getTitle(),
-                                event.getStartsAt(),
-                                event.getEndsAt(),
-                                event.getCreatedAt(),
-                                event.getUpdatedAt());
+        private static LocalDateTime toUtc(Instant instant) {
+                return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
         }
 }
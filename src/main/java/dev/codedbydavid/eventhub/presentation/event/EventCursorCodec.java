@@ -0,0 +1,46 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.presentation.exception.InvalidQueryParameterException;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes {@link EventCursor} as an opaque, URL-safe token.
+ * Layout: epoch seconds (8) + nanos (4) + UUID (16), Base64url without padding.
+ */
+final class EventCursorCodec {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    private EventCursorCodec() {
+    }
+
+    static String encode(EventCursor cursor) {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(cursor.startsAt().toEpochSecond(ZoneOffset.UTC))
+                .putInt(cursor.startsAt().getNano())
+                .putLong(cursor.id().getMostSignificantBits())
+                .putLong(cursor.id().getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    static EventCursor decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != ENCODED_BYTES) {
+                throw new IllegalArgumentException("unexpected cursor length");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime startsAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            UUID id = new UUID(buffer.getLong(), buffer.getLong());
+            return new EventCursor(startsAt, id);
+        } catch (RuntimeException ex) {
+            throw new InvalidQueryParameterException("cursor", "malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.application.event.EventPage;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.presentation.exception.PreconditionFailedException;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Strong entity tags for event representations, derived from id and version, and the matching rules
+ * of RFC 9110 (weak comparison for {@code If-None-Match}, strong comparison for {@code If-Match}).
+ */
+final class EventETags {
+
+    private static final int PAGE_TAG_BYTES = 16;
+
+    private EventETags() {
+    }
+
+    static String of(Event event) {
+        return "\"" + event.getId() + "-" + event.getVersion() + "\"";
+    }
+
+    /**
+     * Tag of a (possibly sparse) single-event body; sparse bodies get their own tag per field set.
+     */
+    static String of(Event event, Set<EventField> fields) {
+        if (EventFieldSelection.isAll(fields)) {
+            return of(event);
+        }
+        String tag = of(event);
+        return tag.substring(0, tag.length() - 1) + "-" + Integer.toHexString(mask(fields)) + "\"";
+    }
+
+    /**
+     * Tag of a list page: a digest over the field set, every event's id and version, and whether a next page exists.
+     */
+    static String of(EventPage page, Set<EventField> fields) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Long.BYTES);
+        buffer.putLong(mask(fields)).putLong(page.hasNext() ? 1 : 0);
+        digest.update(buffer.array(), 0, 2 * Long.BYTES);
+        for (Event event : page.events()) {
+            buffer.clear();
+            buffer.putLong(event.getId().getMostSignificantBits())
+                    .putLong(event.getId().getLeastSignificantBits())
+                    .putLong(event.getVersion());
+            digest.update(buffer.array());
+        }
+        byte[] hash = digest.digest();
+        return "\"p-" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, PAGE_TAG_BYTES)) + "\"";
+    }
+
+    /**
+     * {@code If-None-Match}: true when any listed tag (or {@code *}) weakly matches {@code etag}.
+     */
+    static boolean noneMatchHit(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version an {@code If-Match} header pins event {@code id} to, or {@code null} when there is no header
+     * or it is {@code *}. A header that cannot match any full representation of this event fails the precondition.
+     */
+    static Long expectedVersion(String ifMatch, UUID id) {
+        if (ifMatch == null || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        Long version = null;
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.strip();
+            // Strong comparison: weak tags never match
+            if (!tag.startsWith(prefix) || !tag.endsWith("\"")) {
+                continue;
+            }
+            String value = tag.substring(prefix.length(), tag.length() - 1);
+            // Binary encodings tag the same version with a "+cbor"/"+smile" suffix
+            int encodingSuffix = value.indexOf('+');
+            if (encodingSuffix >= 0) {
+                value = value.substring(0, encodingSuffix);
+            }
+            try {
+                long parsed = Long.parseLong(value);
+                if (version != null && version != parsed) {
+                    throw new PreconditionFailedException("If-Match must name a single version of the event");
+                }
+                version = parsed;
+            } catch (NumberFormatException ex) {
+                // A sparse-representation tag or garbage: cannot match the full representation
+            }
+        }
+        if (version == null) {
+            throw new PreconditionFailedException("If-Match does not match any version of event " + id);
+        }
+        return version;
+    }
+
+    private static int mask(Set<EventField> fields) {
+        int mask = 0;
+        for (EventField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return mask;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Encodings of event bodies. JSON is the default; internal callers can ask for CBOR or Smile with {@code Accept}
+ * to save the cost of JSON text on large lists.
+ */
+enum EventEncoding {
+
+    // JSON first: wildcards resolve to it
+    JSON(MediaType.APPLICATION_JSON, null),
+    CBOR(MediaType.APPLICATION_CBOR, "cbor"),
+    SMILE(new MediaType("application", "x-jackson-smile"), "smile");
+
+    private final MediaType mediaType;
+    private final String tagSuffix;
+
+    EventEncoding(MediaType mediaType, String tagSuffix) {
+        this.mediaType = mediaType;
+        this.tagSuffix = tagSuffix;
+    }
+
+    MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Strong tags are per representation, so binary encodings of the same state get their own tag.
+     */
+    String tag(String etag) {
+        return tagSuffix == null ? etag : etag.substring(0, etag.length() - 1) + "+" + tagSuffix + "\"";
+    }
+
+    /**
+     * Highest-quality acceptable encoding (a concrete type beats a wildcard of equal quality); JSON when the header
+     * is missing, unparseable or names none of them, leaving any 406 to Spring as before.
+     */
+    static EventEncoding negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return JSON;
+        }
+        EventEncoding best = JSON;
+        double bestQuality = 0;
+        boolean bestConcrete = false;
+        for (MediaType type : acceptable) {
+            double quality = type.getQualityValue();
+            boolean concrete = type.isConcrete();
+            if (quality == 0 || quality < bestQuality || (quality == bestQuality && (bestConcrete || !concrete))) {
+                continue;
+            }
+            for (EventEncoding encoding : values()) {
+                if (type.includes(encoding.mediaType)) {
+                    best = encoding;
+                    bestQuality = quality;
+                    bestConcrete = concrete;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+}
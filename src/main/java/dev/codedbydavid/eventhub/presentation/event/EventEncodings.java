@@ -0,0 +1,72 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-built writers for {@link EventResponse} bodies in every {@link EventEncoding}.
+ */
+@Component
+public class EventEncodings {
+
+    private static final TypeReference<List<EventResponse>> EVENT_LIST = new TypeReference<>() {
+    };
+
+    private final Map<EventEncoding, ObjectWriter> eventWriters = new EnumMap<>(EventEncoding.class);
+    private final Map<EventEncoding, ObjectWriter> eventListWriters = new EnumMap<>(EventEncoding.class);
+    private final ObjectReader jsonEventReader;
+
+    public EventEncodings(ObjectMapper objectMapper, CBORMapper cborMapper, SmileMapper smileMapper) {
+        register(EventEncoding.JSON, objectMapper);
+        register(EventEncoding.CBOR, cborMapper);
+        register(EventEncoding.SMILE, smileMapper);
+        this.jsonEventReader = objectMapper.readerFor(EventResponse.class);
+    }
+
+    byte[] event(EventEncoding encoding, EventResponse response) {
+        return write(eventWriters.get(encoding), response);
+    }
+
+    byte[] events(EventEncoding encoding, List<EventResponse> responses) {
+        return write(eventListWriters.get(encoding), responses);
+    }
+
+    /**
+     * Re-encodes a JSON event body kept elsewhere (e.g. a stored idempotent response).
+     */
+    byte[] fromJson(EventEncoding encoding, byte[] json) {
+        if (encoding == EventEncoding.JSON) {
+            return json;
+        }
+        try {
+            return event(encoding, jsonEventReader.readValue(json));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void register(EventEncoding encoding, ObjectMapper mapper) {
+        eventWriters.put(encoding, mapper.writerFor(EventResponse.class));
+        eventListWriters.put(encoding, mapper.writerFor(EVENT_LIST));
+    }
+
+    private static byte[] write(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
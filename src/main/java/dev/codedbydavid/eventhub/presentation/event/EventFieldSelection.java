@@ -0,0 +1,59 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventDateTimeSerializer;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import dev.codedbydavid.eventhub.presentation.exception.InvalidQueryParameterException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parses the {@code fields} query parameter and renders sparse event representations.
+ * Sparse bodies contain exactly the requested fields, formatted like {@link EventResponse}.
+ */
+final class EventFieldSelection {
+
+    private EventFieldSelection() {
+    }
+
+    static Set<EventField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EventField.ALL;
+        }
+        EnumSet<EventField> selected = EnumSet.noneOf(EventField.class);
+        for (String name : fields.split(",")) {
+            try {
+                selected.add(EventField.fromFieldName(name.strip()));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidQueryParameterException("fields",
+                        "unknown field '" + name.strip() + "', allowed: id, title, startsAt, endsAt, createdAt, updatedAt, version");
+            }
+        }
+        return Collections.unmodifiableSet(selected);
+    }
+
+    static boolean isAll(Set<EventField> fields) {
+        return fields.containsAll(EventField.ALL);
+    }
+
+    static Map<String, Object> render(Event event, Set<EventField> fields) {
+        Map<String, Object> body = new LinkedHashMap<>(fields.size() * 2);
+        for (EventField field : fields) {
+            body.put(field.fieldName(), switch (field) {
+                case ID -> event.getId();
+                case TITLE -> event.getTitle();
+                case STARTS_AT -> EventDateTimeSerializer.format(event.getStartsAt());
+                case ENDS_AT -> EventDateTimeSerializer.format(event.getEndsAt());
+                case CREATED_AT -> EventDateTimeSerializer.format(event.getCreatedAt());
+                case UPDATED_AT -> EventDateTimeSerializer.format(event.getUpdatedAt());
+                case VERSION -> event.getVersion();
+            });
+        }
+        return body;
+    }
+}
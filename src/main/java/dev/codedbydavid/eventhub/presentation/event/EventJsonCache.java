@@ -0,0 +1,65 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Caches the serialised JSON of full {@link EventResponse} bodies, so hot events skip Jackson entirely.
+ * Entries are validated against the event's {@code version}; a stale entry is simply re-rendered.
+ */
+@Component
+public class EventJsonCache {
+
+    static final String CACHE_NAME = "event-json";
+
+    // Compact entry: the version as one long plus the bytes, no LocalDateTime/EventResponse graph
+    private record Entry(long version, byte[] json) {
+    }
+
+    private final ObjectWriter writer;
+    private final Cache<UUID, Entry> cache;
+
+    public EventJsonCache(ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${eventhub.cache.event-json.maximum-bytes:16777216}") long maximumBytes) {
+        this.writer = objectMapper.writerFor(EventResponse.class);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((UUID id, Entry entry) -> entry.json().length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    byte[] bytes(Event event, Function<Event, EventResponse> toResponse) {
+        long version = event.getVersion();
+        Entry entry = cache.getIfPresent(event.getId());
+        if (entry != null && entry.version() == version) {
+            return entry.json();
+        }
+        byte[] json = write(toResponse.apply(event));
+        cache.put(event.getId(), new Entry(version, json));
+        return json;
+    }
+
+    private byte[] write(EventResponse response) {
+        try {
+            return writer.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
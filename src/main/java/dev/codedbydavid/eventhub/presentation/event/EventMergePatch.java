@@ -0,0 +1,78 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.application.event.EventPatch;
+import dev.codedbydavid.eventhub.presentation.exception.InvalidPatchException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Reads an RFC 7396 JSON Merge Patch for an event: members that are absent stay untouched, {@code null}
+ * removes an optional member ({@code endsAt}), and {@code version} optionally pins the expected version.
+ */
+record EventMergePatch(EventPatch patch, Long version) {
+
+    static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private static final int MAX_TITLE_LENGTH = 255;
+
+    static EventMergePatch parse(Map<String, Object> document) {
+        String title = null;
+        LocalDateTime startsAt = null;
+        LocalDateTime endsAt = null;
+        boolean clearEndsAt = false;
+        Long version = null;
+
+        for (Map.Entry<String, Object> member : document.entrySet()) {
+            String name = member.getKey();
+            Object value = member.getValue();
+            switch (name) {
+                case "title" -> {
+                    if (!(value instanceof String text) || text.isBlank()) {
+                        throw new InvalidPatchException(name, "must be a non-blank string");
+                    }
+                    if (text.length() > MAX_TITLE_LENGTH) {
+                        throw new InvalidPatchException(name, "must not exceed " + MAX_TITLE_LENGTH + " characters");
+                    }
+                    title = text;
+                }
+                case "startsAt" -> {
+                    if (value == null) {
+                        throw new InvalidPatchException(name, "cannot be removed");
+                    }
+                    startsAt = instant(name, value);
+                }
+                case "endsAt" -> {
+                    if (value == null) {
+                        clearEndsAt = true;
+                    } else {
+                        endsAt = instant(name, value);
+                    }
+                }
+                case "version" -> {
+                    if (!(value instanceof Integer || value instanceof Long)) {
+                        throw new InvalidPatchException(name, "must be an integer");
+                    }
+                    version = ((Number) value).longValue();
+                }
+                case "id", "createdAt", "updatedAt" -> throw new InvalidPatchException(name, "is read-only");
+                default -> throw new InvalidPatchException(name, "unknown field");
+            }
+        }
+        return new EventMergePatch(new EventPatch(title, startsAt, endsAt, clearEndsAt), version);
+    }
+
+    private static LocalDateTime instant(String name, Object value) {
+        if (value instanceof String text) {
+            try {
+                return LocalDateTime.ofInstant(Instant.parse(text), ZoneOffset.UTC);
+            } catch (DateTimeParseException ex) {
+                // fall through to the common message
+            }
+        }
+        throw new InvalidPatchException(name, "must be an ISO-8601 instant, e.g. 2030-01-01T10:00:00Z");
+    }
+}
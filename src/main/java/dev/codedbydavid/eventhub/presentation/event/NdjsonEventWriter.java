@@ -0,0 +1,54 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes one JSON object per line straight to the response stream, flushing every
+ * {@code flushEvery} records so the client sees progress and nothing accumulates in memory.
+ */
+final class NdjsonEventWriter implements Consumer<EventResponse>, Closeable {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private final int flushEvery;
+    private long written;
+
+    NdjsonEventWriter(ObjectMapper objectMapper, OutputStream outputStream, int flushEvery) throws IOException {
+        this.generator = objectMapper.createGenerator(outputStream);
+        // The servlet container owns the stream; records are separated by '\n' only.
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+        // Flushing is left to flushEvery; by default every writeValue would flush the stream
+        this.writer = objectMapper.writerFor(EventResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+    @Override
+    public void accept(EventResponse response) {
+        try {
+            writer.writeValue(generator, response);
+            generator.writeRaw('\n');
+            if (++written % flushEvery == 0) {
+                generator.flush();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
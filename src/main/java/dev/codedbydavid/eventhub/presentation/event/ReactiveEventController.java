@@ -0,0 +1,175 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.application.event.EventPatch;
+import dev.codedbydavid.eventhub.application.event.ListEventsUseCase;
+import dev.codedbydavid.eventhub.application.event.ReactiveCreateEventUseCase;
+import dev.codedbydavid.eventhub.application.event.ReactiveDeleteEventUseCase;
+import dev.codedbydavid.eventhub.application.event.ReactiveGetEventUseCase;
+import dev.codedbydavid.eventhub.application.event.ReactiveListEventsUseCase;
+import dev.codedbydavid.eventhub.application.event.ReactiveUpdateEventUseCase;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
+import dev.codedbydavid.eventhub.presentation.event.dto.CreateEventRequest;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import dev.codedbydavid.eventhub.presentation.event.dto.UpdateEventRequest;
+import dev.codedbydavid.eventhub.presentation.exception.InvalidQueryParameterException;
+import dev.codedbydavid.eventhub.presentation.exception.PreconditionFailedException;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * {@link EventController} on WebFlux, for the {@code reactive} profile: create, read, list, update and delete with
+ * the same payloads, encodings, ETags, cursors and errors. Idempotency keys, merge patch, sparse fields, search,
+ * stats, export and batch writes stay on the servlet stack.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/events")
+public class ReactiveEventController {
+
+        private final ReactiveCreateEventUseCase createEventUseCase;
+        private final ReactiveGetEventUseCase getEventUseCase;
+        private final ReactiveListEventsUseCase listEventsUseCase;
+        private final ReactiveUpdateEventUseCase updateEventUseCase;
+        private final ReactiveDeleteEventUseCase deleteEventUseCase;
+        private final EventEncodings eventEncodings;
+
+        public ReactiveEventController(ReactiveCreateEventUseCase createEventUseCase,
+                        ReactiveGetEventUseCase getEventUseCase,
+                        ReactiveListEventsUseCase listEventsUseCase,
+                        ReactiveUpdateEventUseCase updateEventUseCase,
+                        ReactiveDeleteEventUseCase deleteEventUseCase,
+                        EventEncodings eventEncodings) {
+                this.createEventUseCase = createEventUseCase;
+                this.getEventUseCase = getEventUseCase;
+                this.listEventsUseCase = listEventsUseCase;
+                this.updateEventUseCase = updateEventUseCase;
+                this.deleteEventUseCase = deleteEventUseCase;
+                this.eventEncodings = eventEncodings;
+        }
+
+        @PostMapping
+        public Mono<ResponseEntity<byte[]>> createEvent(@Valid @RequestBody CreateEventRequest request,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                EventEncoding encoding = EventEncoding.negotiate(accept);
+                return createEventUseCase.execute(
+                                                request.getTitle(),
+                                                LocalDateTime.ofInstant(request.getStartsAt(), ZoneOffset.UTC),
+                                                LocalDateTime.ofInstant(request.getEndsAt(), ZoneOffset.UTC))
+                                .map(event -> encoded(ResponseEntity.status(HttpStatus.CREATED), encoding)
+                                                .eTag(encoding.tag(EventETags.of(event)))
+                                                .body(eventEncodings.event(encoding, EventResponse.from(event))));
+        }
+
+        @GetMapping("/{id}")
+        public Mono<ResponseEntity<byte[]>> getEvent(@PathVariable UUID id,
+                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                EventEncoding encoding = EventEncoding.negotiate(accept);
+                return getEventUseCase.execute(id).map(event -> {
+                        String etag = encoding.tag(EventETags.of(event));
+                        if (EventETags.noneMatchHit(ifNoneMatch, etag)) {
+                                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                                .eTag(etag)
+                                                .varyBy(HttpHeaders.ACCEPT)
+                                                .build();
+                        }
+                        return encoded(ResponseEntity.ok(), encoding)
+                                        .eTag(etag)
+                                        .body(eventEncodings.event(encoding, EventResponse.from(event)));
+                });
+        }
+
+        @GetMapping
+        public Mono<ResponseEntity<byte[]>> listEvents(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "" + ListEventsUseCase.DEFAULT_LIMIT) int limit,
+                        @RequestParam(required = false) Instant from,
+                        @RequestParam(required = false) Instant to,
+                        @RequestParam(required = false) String titlePrefix,
+                        @RequestParam(required = false) Instant createdAfter,
+                        @RequestParam(required = false) Instant updatedAfter,
+                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                if (limit < 1 || limit > ListEventsUseCase.MAX_LIMIT) {
+                        throw new InvalidQueryParameterException("limit",
+                                        "must be between 1 and " + ListEventsUseCase.MAX_LIMIT);
+                }
+                EventCursor after = cursor != null ? EventCursorCodec.decode(cursor) : null;
+                EventFilter filter = new EventFilter(
+                                toUtc(from),
+                                toUtc(to),
+                                titlePrefix,
+                                toUtc(createdAfter),
+                                toUtc(updatedAfter));
+
+                EventEncoding encoding = EventEncoding.negotiate(accept);
+                return listEventsUseCase.execute(filter, after, limit).map(page -> {
+                        String etag = encoding.tag(EventETags.of(page, EventField.ALL));
+                        boolean notModified = EventETags.noneMatchHit(ifNoneMatch, etag);
+                        ResponseEntity.BodyBuilder response = ResponseEntity
+                                        .status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                                        .varyBy(HttpHeaders.ACCEPT)
+                                        .eTag(etag);
+                        if (page.hasNext()) {
+                                response.header(EventController.NEXT_CURSOR_HEADER,
+                                                EventCursorCodec.encode(page.nextCursor()));
+                        }
+                        if (notModified) {
+                                return response.build();
+                        }
+                        return response.contentType(encoding.mediaType())
+                                        .body(eventEncodings.events(encoding, EventResponse.from(page.events())));
+                });
+        }
+
+        @PutMapping("/{id}")
+        public Mono<ResponseEntity<byte[]>> updateEvent(@PathVariable UUID id,
+                        @Valid @RequestBody UpdateEventRequest request,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+                EventPatch patch = new EventPatch(
+                                request.getTitle(),
+                                toUtc(request.getStartsAt()),
+                                toUtc(request.getEndsAt()),
+                                false);
+                EventEncoding encoding = EventEncoding.negotiate(accept);
+                Long ifMatchVersion = EventETags.expectedVersion(ifMatch, id);
+                Mono<Event> updated = updateEventUseCase.execute(id, patch, ifMatchVersion);
+                if (ifMatchVersion != null) {
+                        // A failed If-Match is a precondition failure, not a conflict
+                        updated = updated.onErrorMap(EventVersionConflictException.class,
+                                        ex -> new PreconditionFailedException(ex.getMessage()));
+                }
+                return updated.map(event -> encoded(ResponseEntity.ok(), encoding)
+                                .eTag(encoding.tag(EventETags.of(event)))
+                                .body(eventEncodings.event(encoding, EventResponse.from(event))));
+        }
+
+        @DeleteMapping("/{id}")
+        @ResponseStatus(HttpStatus.NO_CONTENT)
+        public Mono<Void> deleteEvent(@PathVariable UUID id) {
+                return deleteEventUseCase.execute(id);
+        }
+
+        private static ResponseEntity.BodyBuilder encoded(ResponseEntity.BodyBuilder builder, EventEncoding encoding) {
+                return builder.contentType(encoding.mediaType()).varyBy(HttpHeaders.ACCEPT);
+        }
+
+        private static LocalDateTime toUtc(Instant instant) {
+                return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+        }
+}
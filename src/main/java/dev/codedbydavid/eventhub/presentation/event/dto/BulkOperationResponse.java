@@ -0,0 +1,31 @@
+package dev.codedbydavid.eventhub.presentation.event.dto;
+
+public class BulkOperationResponse {
+    private long affected;
+
+    private int chunks;
+
+    public BulkOperationResponse() {
+    }
+
+    public BulkOperationResponse(long affected, int chunks) {
+        this.affected = affected;
+        this.chunks = chunks;
+    }
+
+    public long getAffected() {
+        return affected;
+    }
+
+    public void setAffected(long affected) {
+        this.affected = affected;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+}
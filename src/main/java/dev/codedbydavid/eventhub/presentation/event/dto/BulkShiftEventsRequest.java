@@ -0,0 +1,51 @@
+package dev.codedbydavid.eventhub.presentation.event.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class BulkShiftEventsRequest {
+    @NotNull(message = "startsFrom is required")
+    private Instant startsFrom;
+
+    @NotNull(message = "startsBefore is required")
+    private Instant startsBefore;
+
+    // ISO-8601 duration, e.g. PT1H or -PT30M
+    @NotNull(message = "shiftBy is required")
+    private Duration shiftBy;
+
+    public BulkShiftEventsRequest() {
+    }
+
+    public BulkShiftEventsRequest(Instant startsFrom, Instant startsBefore, Duration shiftBy) {
+        this.startsFrom = startsFrom;
+        this.startsBefore = startsBefore;
+        this.shiftBy = shiftBy;
+    }
+
+    public Instant getStartsFrom() {
+        return startsFrom;
+    }
+
+    public void setStartsFrom(Instant startsFrom) {
+        this.startsFrom = startsFrom;
+    }
+
+    public Instant getStartsBefore() {
+        return startsBefore;
+    }
+
+    public void setStartsBefore(Instant startsBefore) {
+        this.startsBefore = startsBefore;
+    }
+
+    public Duration getShiftBy() {
+        return shiftBy;
+    }
+
+    public void setShiftBy(Duration shiftBy) {
+        this.shiftBy = shiftBy;
+    }
+}
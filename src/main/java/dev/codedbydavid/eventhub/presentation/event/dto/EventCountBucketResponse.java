@@ -0,0 +1,36 @@
+package dev.codedbydavid.eventhub.presentation.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+public class EventCountBucketResponse {
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate start;
+
+    private long count;
+
+    public EventCountBucketResponse() {
+    }
+
+    public EventCountBucketResponse(LocalDate start, long count) {
+        this.start = start;
+        this.count = count;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public void setStart(LocalDate start) {
+        this.start = start;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
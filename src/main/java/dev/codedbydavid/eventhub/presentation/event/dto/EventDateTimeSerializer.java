@@ -0,0 +1,80 @@
+package dev.codedbydavid.eventhub.presentation.event.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes {@link LocalDateTime} as {@link EventResponse#DATE_TIME_PATTERN} straight into a char buffer,
+ * instead of going through a {@link DateTimeFormatter} and an intermediate String for every field.
+ * Output is identical to the pattern; years outside 1 to 9999, which the pattern (year-of-era) prints
+ * with a sign or as BCE, take the formatter path.
+ */
+public final class EventDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(EventResponse.DATE_TIME_PATTERN);
+    private static final int LENGTH = 19;
+
+    public EventDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (year < 1 || year > 9999) {
+            generator.writeString(FORMATTER.format(value));
+            return;
+        }
+        char[] buffer = new char[LENGTH];
+        fill(buffer, value);
+        generator.writeString(buffer, 0, LENGTH);
+    }
+
+    /**
+     * Same text as {@link #serialize}, for callers building bodies by hand; {@code null} stays {@code null}.
+     */
+    public static String format(LocalDateTime value) {
+        if (value == null) {
+            return null;
+        }
+        int year = value.getYear();
+        if (year < 1 || year > 9999) {
+            return FORMATTER.format(value);
+        }
+        char[] buffer = new char[LENGTH];
+        fill(buffer, value);
+        return new String(buffer);
+    }
+
+    private static void fill(char[] buffer, LocalDateTime value) {
+        int year = value.getYear();
+        buffer[0] = digit(year / 1000);
+        buffer[1] = digit(year / 100 % 10);
+        buffer[2] = digit(year / 10 % 10);
+        buffer[3] = digit(year % 10);
+        buffer[4] = '-';
+        twoDigits(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        twoDigits(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        twoDigits(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        twoDigits(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        twoDigits(buffer, 17, value.getSecond());
+    }
+
+    private static void twoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = digit(value / 10);
+        buffer[offset + 1] = digit(value % 10);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
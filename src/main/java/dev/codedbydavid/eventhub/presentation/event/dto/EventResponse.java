@@ -1,85 +1,56 @@
 package dev.codedbydavid.eventhub.presentation.event.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import dev.codedbydavid.eventhub.domain.event.Event;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
-public class EventResponse {
-    private UUID id;
-    private String title;
-
-    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
-    private LocalDateTime startsAt;
-
-    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
-    private LocalDateTime endsAt;
-
-    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
-    private LocalDateTime createdAt;
-
-    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
-    private LocalDateTime updatedAt;
-
-    public EventResponse() {
-    }
-
-    public EventResponse(UUID id, String title, LocalDateTime startsAt, LocalDateTime endsAt,
-                        LocalDateTime createdAt, LocalDateTime updatedAt) {
-        this.id = id;
-        this.title = title;
-        this.startsAt = startsAt;
-        this.endsAt = endsAt;
-        this.createdAt = createdAt;
-        this.updatedAt = updatedAt;
-    }
-
-    public UUID getId() {
-        return id;
-    }
-
-    public void setId(UUID id) {
-        this.id = id;
-    }
-
-    public String getTitle() {
-        return title;
-    }
-
-    public void setTitle(String title) {
-        this.title = title;
-    }
-
-    public LocalDateTime getStartsAt() {
-        return startsAt;
-    }
-
-    public void setStartsAt(LocalDateTime startsAt) {
-        this.startsAt = startsAt;
-    }
-
-    public LocalDateTime getEndsAt() {
-        return endsAt;
-    }
-
-    public void setEndsAt(LocalDateTime endsAt) {
-        this.endsAt = endsAt;
-    }
-
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-
-    public LocalDateTime getUpdatedAt() {
-        return updatedAt;
-    }
-
-    public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
+/**
+ * Date-times are written by {@link EventDateTimeSerializer}; {@code @JsonFormat} still governs reading them back
+ * and documents the format.
+ */
+public record EventResponse(
+        UUID id,
+        String title,
+        @JsonFormat(pattern = EventResponse.DATE_TIME_PATTERN)
+        @JsonSerialize(using = EventDateTimeSerializer.class)
+        LocalDateTime startsAt,
+        @JsonFormat(pattern = EventResponse.DATE_TIME_PATTERN)
+        @JsonSerialize(using = EventDateTimeSerializer.class)
+        LocalDateTime endsAt,
+        @JsonFormat(pattern = EventResponse.DATE_TIME_PATTERN)
+        @JsonSerialize(using = EventDateTimeSerializer.class)
+        LocalDateTime createdAt,
+        @JsonFormat(pattern = EventResponse.DATE_TIME_PATTERN)
+        @JsonSerialize(using = EventDateTimeSerializer.class)
+        LocalDateTime updatedAt,
+        long version) {
+
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+
+    /**
+     * The one domain-to-response mapping, shared by every endpoint that returns events.
+     */
+    public static EventResponse from(Event event) {
+        return new EventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getStartsAt(),
+                event.getEndsAt(),
+                event.getCreatedAt(),
+                event.getUpdatedAt(),
+                event.getVersion());
+    }
+
+    public static List<EventResponse> from(List<Event> events) {
+        List<EventResponse> responses = new ArrayList<>(events.size());
+        for (Event event : events) {
+            responses.add(from(event));
+        }
+        return responses;
     }
 }
-
@@ -1,6 +1,9 @@
 package dev.codedbydavid.eventhub.presentation.exception;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.Instant;
+import java.util.List;
 
 public class ErrorResponse {
     private String code;
@@ -8,6 +11,8 @@ public class ErrorResponse {
     private String details;
     private Instant timestamp;
     private String path;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ItemError> errors;
 
     public ErrorResponse() {
     }
@@ -59,5 +64,21 @@ public class ErrorResponse {
     public void setPath(String path) {
         this.path = path;
     }
-}
 
+    /**
+     * Per-item errors of a rejected batch, ordered by index; absent on every other error.
+     */
+    public List<ItemError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ItemError> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * @param field offending attribute, or {@code null} when the item as a whole is invalid
+     */
+    public record ItemError(int index, String field, String message) {
+    }
+}
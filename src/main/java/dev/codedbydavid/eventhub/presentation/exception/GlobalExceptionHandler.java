@@ -1,15 +1,26 @@
 package dev.codedbydavid.eventhub.presentation.exception;
 
+import dev.codedbydavid.eventhub.application.event.EventWriteQueueFullException;
+import dev.codedbydavid.eventhub.application.event.EventWriteTimeoutException;
+import dev.codedbydavid.eventhub.application.event.InvalidEventBatchException;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotencyKeyInProgressException;
+import dev.codedbydavid.eventhub.application.idempotency.IdempotencyKeyReusedException;
+import dev.codedbydavid.eventhub.application.idempotency.InvalidIdempotencyKeyException;
 import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
 import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.Instant;
 import java.util.stream.Collectors;
@@ -18,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
         private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
@@ -65,6 +77,19 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
         }
 
+        @ExceptionHandler(EventVersionConflictException.class)
+        public ResponseEntity<ErrorResponse> handleEventVersionConflictException(
+                        EventVersionConflictException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "CONFLICT",
+                                "Event was modified concurrently",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        }
+
         @ExceptionHandler(ConstraintViolationException.class)
         public ResponseEntity<ErrorResponse> handleConstraintViolationException(
                         ConstraintViolationException ex, HttpServletRequest request) {
@@ -82,6 +107,170 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         }
 
+        @ExceptionHandler(InvalidQueryParameterException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidQueryParameterException(
+                        InvalidQueryParameterException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "VALIDATION_ERROR",
+                                "Invalid query parameter",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        @ExceptionHandler(InvalidBatchException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidBatchException(
+                        InvalidBatchException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "VALIDATION_ERROR",
+                                "Batch validation failed",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        @ExceptionHandler(InvalidEventBatchException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidEventBatchException(
+                        InvalidEventBatchException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "VALIDATION_ERROR",
+                                "Batch validation failed",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+                errorResponse.setErrors(ex.getErrors().stream()
+                                .map(error -> new ErrorResponse.ItemError(error.index(), error.field(), error.message()))
+                                .collect(Collectors.toList()));
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        @ExceptionHandler(InvalidPatchException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidPatchException(
+                        InvalidPatchException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "VALIDATION_ERROR",
+                                "Invalid merge patch",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        @ExceptionHandler(PreconditionFailedException.class)
+        public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+                        PreconditionFailedException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "PRECONDITION_FAILED",
+                                "Precondition failed",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+        }
+
+        @ExceptionHandler(EventWriteQueueFullException.class)
+        public ResponseEntity<ErrorResponse> handleEventWriteQueueFullException(
+                        EventWriteQueueFullException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "SERVICE_UNAVAILABLE",
+                                "Too many pending writes",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(errorResponse);
+        }
+
+        @ExceptionHandler(EventWriteTimeoutException.class)
+        public ResponseEntity<ErrorResponse> handleEventWriteTimeoutException(
+                        EventWriteTimeoutException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "SERVICE_UNAVAILABLE",
+                                "Write did not complete in time",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(errorResponse);
+        }
+
+        @ExceptionHandler(InvalidIdempotencyKeyException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidIdempotencyKeyException(
+                        InvalidIdempotencyKeyException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "VALIDATION_ERROR",
+                                "Invalid Idempotency-Key header",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        @ExceptionHandler(IdempotencyKeyInProgressException.class)
+        public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgressException(
+                        IdempotencyKeyInProgressException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "IDEMPOTENCY_KEY_IN_PROGRESS",
+                                "Request with this Idempotency-Key is in progress",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        }
+
+        @ExceptionHandler(IdempotencyKeyReusedException.class)
+        public ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(
+                        IdempotencyKeyReusedException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "IDEMPOTENCY_KEY_REUSED",
+                                "Idempotency-Key reused with a different request",
+                                ex.getMessage(),
+                                Instant.now(),
+                                request.getRequestURI());
+
+                // 422 by number: the constant was renamed (UNPROCESSABLE_CONTENT) in recent Spring versions
+                return ResponseEntity.status(422).body(errorResponse);
+        }
+
+        @ExceptionHandler(MissingServletRequestParameterException.class)
+        public ResponseEntity<ErrorResponse> handleMissingServletRequestParameterException(
+                        MissingServletRequestParameterException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "VALIDATION_ERROR",
+                                "Missing request parameter",
+                                ex.getParameterName() + ": is required",
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+        public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
+                        MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                "VALIDATION_ERROR",
+                                "Invalid request parameter",
+                                ex.getName() + ": invalid value",
+                                Instant.now(),
+                                request.getRequestURI());
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
         @ExceptionHandler(HttpMessageNotReadableException.class)
         public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
                 HttpMessageNotReadableException ex,
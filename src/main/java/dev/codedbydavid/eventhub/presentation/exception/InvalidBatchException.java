@@ -0,0 +1,9 @@
+package dev.codedbydavid.eventhub.presentation.exception;
+
+import java.util.List;
+
+public class InvalidBatchException extends RuntimeException {
+    public InvalidBatchException(List<String> errors) {
+        super(String.join(", ", errors));
+    }
+}
@@ -0,0 +1,7 @@
+package dev.codedbydavid.eventhub.presentation.exception;
+
+public class InvalidPatchException extends RuntimeException {
+    public InvalidPatchException(String field, String reason) {
+        super(field + ": " + reason);
+    }
+}
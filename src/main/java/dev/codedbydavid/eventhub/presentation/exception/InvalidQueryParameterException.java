@@ -0,0 +1,7 @@
+package dev.codedbydavid.eventhub.presentation.exception;
+
+public class InvalidQueryParameterException extends RuntimeException {
+    public InvalidQueryParameterException(String parameter, String reason) {
+        super(parameter + ": " + reason);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.codedbydavid.eventhub.presentation.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
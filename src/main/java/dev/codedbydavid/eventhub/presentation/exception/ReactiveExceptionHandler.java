@@ -0,0 +1,143 @@
+package dev.codedbydavid.eventhub.presentation.exception;
+
+import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
+import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.Instant;
+import java.util.stream.Collectors;
+
+/**
+ * {@link GlobalExceptionHandler} for the reactive stack: the same codes, messages and payload for the exceptions
+ * the reactive endpoints can raise, with WebFlux's binding and decoding exceptions in place of the servlet ones.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+        private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+        // Client-safe message (no internals), as on the servlet stack
+        private static final String INVALID_BODY_DETAILS =
+                        "Invalid JSON format or date format. Expected ISO-8601 format (e.g., 2026-01-26T19:46:49.544Z)";
+
+        @ExceptionHandler(WebExchangeBindException.class)
+        public ResponseEntity<ErrorResponse> handleValidationException(
+                        WebExchangeBindException ex, ServerWebExchange exchange) {
+                String details = ex.getBindingResult().getFieldErrors().stream()
+                                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                                .collect(Collectors.joining(", "));
+                return error(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", "Validation failed", details, exchange);
+        }
+
+        @ExceptionHandler(EventValidationException.class)
+        public ResponseEntity<ErrorResponse> handleEventValidationException(
+                        EventValidationException ex, ServerWebExchange exchange) {
+                return error(HttpStatus.BAD_REQUEST, "DOMAIN_VALIDATION_ERROR", "Event validation failed",
+                                ex.getMessage(), exchange);
+        }
+
+        @ExceptionHandler(EventNotFoundException.class)
+        public ResponseEntity<ErrorResponse> handleEventNotFoundException(
+                        EventNotFoundException ex, ServerWebExchange exchange) {
+                return error(HttpStatus.NOT_FOUND, "NOT_FOUND", "Event not found", ex.getMessage(), exchange);
+        }
+
+        @ExceptionHandler(EventVersionConflictException.class)
+        public ResponseEntity<ErrorResponse> handleEventVersionConflictException(
+                        EventVersionConflictException ex, ServerWebExchange exchange) {
+                return error(HttpStatus.CONFLICT, "CONFLICT", "Event was modified concurrently", ex.getMessage(),
+                                exchange);
+        }
+
+        @ExceptionHandler(InvalidQueryParameterException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidQueryParameterException(
+                        InvalidQueryParameterException ex, ServerWebExchange exchange) {
+                return error(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", "Invalid query parameter", ex.getMessage(),
+                                exchange);
+        }
+
+        @ExceptionHandler(PreconditionFailedException.class)
+        public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+                        PreconditionFailedException ex, ServerWebExchange exchange) {
+                return error(HttpStatus.PRECONDITION_FAILED, "PRECONDITION_FAILED", "Precondition failed",
+                                ex.getMessage(), exchange);
+        }
+
+        @ExceptionHandler(MissingRequestValueException.class)
+        public ResponseEntity<ErrorResponse> handleMissingRequestValueException(
+                        MissingRequestValueException ex, ServerWebExchange exchange) {
+                return error(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", "Missing request parameter",
+                                ex.getName() + ": is required", exchange);
+        }
+
+        // WebFlux raises both unreadable or missing bodies and unconvertible parameters as ServerWebInputException
+        @ExceptionHandler(ServerWebInputException.class)
+        public ResponseEntity<ErrorResponse> handleServerWebInputException(
+                        ServerWebInputException ex, ServerWebExchange exchange) {
+                if (ex.getCause() instanceof TypeMismatchException) {
+                        MethodParameter parameter = ex.getMethodParameter();
+                        String name = parameter != null ? parameter.getParameterName() : null;
+                        return error(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", "Invalid request parameter",
+                                        name + ": invalid value", exchange);
+                }
+
+                // Internal-only detail for debugging
+                Throwable rootCause = ex.getMostSpecificCause();
+                String internalMessage = rootCause.getMessage();
+                if (internalMessage == null || internalMessage.isBlank()) {
+                        internalMessage = rootCause.getClass().getSimpleName();
+                }
+                log.warn("Invalid request body for {} {}: {}",
+                                exchange.getRequest().getMethod(),
+                                exchange.getRequest().getPath().value(),
+                                internalMessage);
+                return error(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", "Request body is invalid or malformed",
+                                INVALID_BODY_DETAILS, exchange);
+        }
+
+        // Routing outcomes (no such path, method or media type) keep their status in the standard payload
+        @ExceptionHandler(ResponseStatusException.class)
+        public ResponseEntity<ErrorResponse> handleResponseStatusException(
+                        ResponseStatusException ex, ServerWebExchange exchange) {
+                HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+                String code = status != null ? status.name() : String.valueOf(ex.getStatusCode().value());
+                return ResponseEntity.status(ex.getStatusCode())
+                                .headers(ex.getHeaders())
+                                .body(new ErrorResponse(code, ex.getReason(), null, Instant.now(),
+                                                exchange.getRequest().getPath().value()));
+        }
+
+        @ExceptionHandler(Exception.class)
+        public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, ServerWebExchange exchange) {
+                log.error("Unhandled exception for {} {}", exchange.getRequest().getMethod(),
+                                exchange.getRequest().getPath().value(), ex);
+                return error(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "An unexpected error occurred",
+                                null, exchange);
+        }
+
+        private static ResponseEntity<ErrorResponse> error(HttpStatus status, String code, String message,
+                        String details, ServerWebExchange exchange) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                                code,
+                                message,
+                                details,
+                                Instant.now(),
+                                exchange.getRequest().getPath().value());
+                return ResponseEntity.status(status).body(errorResponse);
+        }
+}
@@ -2,6 +2,7 @@ package dev.codedbydavid.eventhub.application.event;
 
 import dev.codedbydavid.eventhub.domain.event.Event;
 import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
 import dev.codedbydavid.eventhub.domain.event.EventValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,12 +10,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,11 +27,21 @@ class CreateEventUseCaseTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private GroupCommitEventWriter groupCommitWriter;
+
     private CreateEventUseCase createEventUseCase;
 
     @BeforeEach
     void setUp() {
-        createEventUseCase = new CreateEventUseCase(eventRepository);
+        createEventUseCase = new CreateEventUseCase(eventRepository, eventStatsRepository, transactionManager,
+                groupCommitWriter);
     }
 
     @Test
@@ -65,6 +78,8 @@ class CreateEventUseCaseTest {
         assertEquals(title, capturedEvent.getTitle());
         assertEquals(startsAt, capturedEvent.getStartsAt());
         assertEquals(endsAt, capturedEvent.getEndsAt());
+
+        verify(eventStatsRepository).incrementDailyCount(startsAt.toLocalDate(), 1);
     }
 
     @Test
@@ -125,5 +140,27 @@ class CreateEventUseCaseTest {
         assertNull(result.getEndsAt());
         verify(eventRepository).save(any(Event.class));
     }
-}
 
+    @Test
+    void shouldHandOffToGroupCommitWriterWhenEnabled() {
+        // Given
+        LocalDateTime startsAt = LocalDateTime.of(2024, 12, 20, 10, 0);
+        Event committed = Event.builder()
+                .id(UUID.randomUUID())
+                .title("Grouped")
+                .startsAt(startsAt)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        when(groupCommitWriter.isEnabled()).thenReturn(true);
+        when(groupCommitWriter.write(any(Event.class))).thenReturn(committed);
+
+        // When
+        Event result = createEventUseCase.execute("Grouped", startsAt, null);
+
+        // Then
+        assertSame(committed, result);
+        verify(eventRepository, never()).save(any(Event.class));
+        verify(transactionManager, never()).getTransaction(any());
+    }
+}
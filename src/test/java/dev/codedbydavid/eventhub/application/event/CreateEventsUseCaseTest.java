@@ -0,0 +1,109 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateEventsUseCaseTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    private CreateEventsUseCase createEventsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        createEventsUseCase = new CreateEventsUseCase(eventRepository, eventStatsRepository);
+    }
+
+    @Test
+    void shouldSaveAllAndAggregateDailyCounts() {
+        // Given
+        LocalDateTime day1 = LocalDateTime.of(2030, 5, 1, 10, 0);
+        LocalDateTime day2 = LocalDateTime.of(2030, 5, 2, 10, 0);
+        List<EventDraft> drafts = List.of(
+                new EventDraft("A", day1, day1.plusHours(1)),
+                new EventDraft("B", day1.plusHours(2), day1.plusHours(3)),
+                new EventDraft("C", day2, day2.plusHours(1)));
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            return events.stream().map(CreateEventsUseCaseTest::withId).toList();
+        });
+
+        // When
+        List<Event> result = createEventsUseCase.execute(drafts);
+
+        // Then
+        assertEquals(List.of("A", "B", "C"), result.stream().map(Event::getTitle).toList());
+        verify(eventStatsRepository).incrementDailyCount(LocalDate.of(2030, 5, 1), 2);
+        verify(eventStatsRepository).incrementDailyCount(LocalDate.of(2030, 5, 2), 1);
+        verifyNoMoreInteractions(eventStatsRepository);
+    }
+
+    @Test
+    void shouldReportEveryInvalidItemAndSaveNothing() {
+        // Given
+        LocalDateTime startsAt = LocalDateTime.of(2030, 5, 1, 10, 0);
+        List<EventDraft> drafts = List.of(
+                new EventDraft("Bad range", startsAt, startsAt.minusHours(1)),
+                new EventDraft("Ok", startsAt, startsAt.plusHours(1)),
+                new EventDraft("No start", null, startsAt));
+
+        // When
+        InvalidEventBatchException ex = assertThrows(InvalidEventBatchException.class,
+                () -> createEventsUseCase.execute(drafts));
+
+        // Then
+        assertEquals(List.of(0, 2), ex.getErrors().stream().map(BatchItemError::index).toList());
+        assertTrue(ex.getErrors().get(0).message().startsWith("endsAt must be after startsAt"));
+        assertEquals("startsAt is required", ex.getErrors().get(1).message());
+        verifyNoInteractions(eventRepository, eventStatsRepository);
+    }
+
+    @Test
+    void validateShouldSkipItemsTheCallerAlreadyRejected() {
+        // Given
+        LocalDateTime startsAt = LocalDateTime.of(2030, 5, 1, 10, 0);
+        List<EventDraft> drafts = new ArrayList<>();
+        drafts.add(null);
+        drafts.add(new EventDraft("Bad range", startsAt, startsAt.minusHours(1)));
+
+        // When
+        List<BatchItemError> errors = createEventsUseCase.validate(drafts);
+
+        // Then
+        assertEquals(1, errors.size());
+        assertEquals(1, errors.get(0).index());
+        assertNull(errors.get(0).field());
+    }
+
+    private static Event withId(Event event) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .title(event.getTitle())
+                .startsAt(event.getStartsAt())
+                .endsAt(event.getEndsAt())
+                .createdAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteEventsEndedBeforeUseCaseTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DeleteEventsEndedBeforeUseCase deleteEventsEndedBeforeUseCase;
+
+    @BeforeEach
+    void setUp() {
+        deleteEventsEndedBeforeUseCase = new DeleteEventsEndedBeforeUseCase(eventRepository, eventStatsRepository,
+                transactionManager, 2);
+    }
+
+    @Test
+    void shouldDeleteChunksUntilAShortOneAndDecrementRollups() {
+        // Given
+        LocalDateTime day1 = LocalDateTime.of(2029, 3, 1, 10, 0);
+        LocalDateTime day2 = LocalDateTime.of(2029, 3, 2, 10, 0);
+        when(eventRepository.deleteEndedBefore(CUTOFF, 2))
+                .thenReturn(List.of(event(day1), event(day1)))
+                .thenReturn(List.of(event(day2)));
+
+        // When
+        BulkResult result = deleteEventsEndedBeforeUseCase.execute(CUTOFF);
+
+        // Then
+        assertEquals(new BulkResult(3, 2), result);
+        verify(eventRepository, times(2)).deleteEndedBefore(CUTOFF, 2);
+        verify(eventStatsRepository).incrementDailyCount(LocalDate.of(2029, 3, 1), -2);
+        verify(eventStatsRepository).incrementDailyCount(LocalDate.of(2029, 3, 2), -1);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void shouldStopWhenNothingMatches() {
+        // Given
+        when(eventRepository.deleteEndedBefore(CUTOFF, 2)).thenReturn(List.of());
+
+        // When
+        BulkResult result = deleteEventsEndedBeforeUseCase.execute(CUTOFF);
+
+        // Then
+        assertEquals(new BulkResult(0, 0), result);
+        verifyNoInteractions(eventStatsRepository);
+    }
+
+    private static Event event(LocalDateTime startsAt) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .title("Old")
+                .startsAt(startsAt)
+                .endsAt(startsAt.plusHours(1))
+                .createdAt(startsAt)
+                .updatedAt(startsAt)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.DailyEventCount;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetEventStatsUseCaseTest {
+
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    private GetEventStatsUseCase getEventStatsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getEventStatsUseCase = new GetEventStatsUseCase(eventStatsRepository);
+    }
+
+    @Test
+    void shouldReturnDenseDailyBuckets() {
+        // Given
+        LocalDate from = LocalDate.of(2030, 1, 1);
+        LocalDate to = LocalDate.of(2030, 1, 3);
+        when(eventStatsRepository.findDailyCounts(from, to))
+                .thenReturn(List.of(new DailyEventCount(LocalDate.of(2030, 1, 2), 4)));
+
+        // When
+        List<EventCountBucket> buckets = getEventStatsUseCase.execute(StatsBucket.DAY, from, to);
+
+        // Then
+        assertEquals(List.of(
+                new EventCountBucket(LocalDate.of(2030, 1, 1), 0),
+                new EventCountBucket(LocalDate.of(2030, 1, 2), 4),
+                new EventCountBucket(LocalDate.of(2030, 1, 3), 0)), buckets);
+    }
+
+    @Test
+    void shouldFoldDaysIntoIsoWeeks() {
+        // Given: 2030-01-07 is a Monday
+        LocalDate from = LocalDate.of(2030, 1, 9);
+        LocalDate to = LocalDate.of(2030, 1, 15);
+        when(eventStatsRepository.findDailyCounts(from, to)).thenReturn(List.of(
+                new DailyEventCount(LocalDate.of(2030, 1, 9), 1),
+                new DailyEventCount(LocalDate.of(2030, 1, 13), 2),
+                new DailyEventCount(LocalDate.of(2030, 1, 14), 5)));
+
+        // When
+        List<EventCountBucket> buckets = getEventStatsUseCase.execute(StatsBucket.WEEK, from, to);
+
+        // Then
+        assertEquals(List.of(
+                new EventCountBucket(LocalDate.of(2030, 1, 7), 3),
+                new EventCountBucket(LocalDate.of(2030, 1, 14), 5)), buckets);
+    }
+
+    @Test
+    void shouldRejectInvertedRange() {
+        assertThrows(EventValidationException.class, () -> getEventStatsUseCase.execute(
+                StatsBucket.MONTH, LocalDate.of(2030, 2, 1), LocalDate.of(2030, 1, 1)));
+    }
+}
@@ -0,0 +1,218 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitEventWriterTest {
+
+    private static final LocalDateTime STARTS_AT = LocalDateTime.of(2030, 5, 1, 10, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private GroupCommitEventWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    void shouldCommitConcurrentCreatesTogether() {
+        // Given: a long delay, so only the batch size triggers the commit
+        writer = writer(4, Duration.ofSeconds(10), 100);
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            return events.stream().map(GroupCommitEventWriterTest::withId).toList();
+        });
+
+        // When
+        List<CompletableFuture<Event>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(writer.submit(event("E" + i)));
+        }
+
+        // Then
+        for (int i = 0; i < 4; i++) {
+            Event saved = results.get(i).join();
+            assertEquals("E" + i, saved.getTitle());
+            assertNotNull(saved.getId());
+        }
+        verify(eventRepository, times(1)).saveAll(anyList());
+        verify(eventStatsRepository).incrementDailyCount(LocalDate.of(2030, 5, 1), 4L);
+        verify(transactionManager).commit(any());
+        assertEquals(4.0, meterRegistry.get(GroupCommitEventWriter.METRIC_PREFIX + ".batch.size").summary().max());
+    }
+
+    @Test
+    void shouldCommitPartialBatchAfterMaxDelay() {
+        // Given
+        writer = writer(500, Duration.ofMillis(20), 100);
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            return events.stream().map(GroupCommitEventWriterTest::withId).toList();
+        });
+
+        // When
+        Event saved = writer.write(event("Alone"));
+
+        // Then
+        assertEquals("Alone", saved.getTitle());
+        assertEquals(1, meterRegistry.get(GroupCommitEventWriter.METRIC_PREFIX + ".latency").timer().count());
+    }
+
+    @Test
+    void shouldFailEveryRequestOfAFailedBatch() {
+        // Given
+        writer = writer(2, Duration.ofSeconds(10), 100);
+        when(eventRepository.saveAll(anyList())).thenThrow(new IllegalStateException("disk full"));
+
+        // When
+        CompletableFuture<Event> first = writer.submit(event("A"));
+        CompletableFuture<Event> second = writer.submit(event("B"));
+
+        // Then
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, second::join);
+        verify(transactionManager).rollback(any());
+        verify(eventStatsRepository, never()).incrementDailyCount(any(), anyLong());
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() {
+        // Given: the writer is stuck in a slow commit, so nothing leaves the queue
+        writer = writer(1, Duration.ZERO, 1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            release.join();
+            List<Event> events = invocation.getArgument(0);
+            return events.stream().map(GroupCommitEventWriterTest::withId).toList();
+        });
+        CompletableFuture<Event> inFlight = writer.submit(event("In flight"));
+        verify(eventRepository, timeout(5_000)).saveAll(anyList());
+        CompletableFuture<Event> queued = writer.submit(event("Queued"));
+
+        // When / Then
+        assertThrows(EventWriteQueueFullException.class, () -> writer.submit(event("Rejected")));
+        release.complete(null);
+        assertEquals("In flight", inFlight.join().getTitle());
+        assertEquals("Queued", queued.join().getTitle());
+    }
+
+    @Test
+    void shouldTimeOutAndDropCreatesStillQueued() {
+        // Given: the writer is stuck in a slow commit
+        writer = writer(1, Duration.ZERO, 100, Duration.ofMillis(100));
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            release.join();
+            List<Event> events = invocation.getArgument(0);
+            return events.stream().map(GroupCommitEventWriterTest::withId).toList();
+        });
+        CompletableFuture<Event> inFlight = writer.submit(event("In flight"));
+        verify(eventRepository, timeout(5_000)).saveAll(anyList());
+
+        // When
+        assertThrows(EventWriteTimeoutException.class, () -> writer.write(event("Timed out")));
+        release.complete(null);
+
+        // Then: the timed-out create never reaches the database
+        assertEquals("In flight", inFlight.join().getTitle());
+        verify(eventRepository, after(200).times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void shouldReplaceTheWriterWhenAnErrorKillsIt() {
+        // Given
+        writer = writer(1, Duration.ZERO, 100);
+        when(eventRepository.saveAll(anyList()))
+                .thenThrow(new StackOverflowError())
+                .thenAnswer(invocation -> {
+                    List<Event> events = invocation.getArgument(0);
+                    return events.stream().map(GroupCommitEventWriterTest::withId).toList();
+                });
+
+        // When
+        assertThrows(StackOverflowError.class, () -> writer.write(event("Broken")));
+        Event saved = writer.write(event("After restart"));
+
+        // Then
+        assertEquals("After restart", saved.getTitle());
+    }
+
+    @Test
+    void shouldNotStartWhenDisabled() {
+        // Given
+        writer = new GroupCommitEventWriter(eventRepository, eventStatsRepository, transactionManager,
+                meterRegistry, false, 500, Duration.ofMillis(5), 100, Duration.ofSeconds(5));
+
+        // Then
+        assertFalse(writer.isEnabled());
+        assertThrows(EventWriteQueueFullException.class, () -> writer.submit(event("Nope")));
+    }
+
+    private GroupCommitEventWriter writer(int maxBatchSize, Duration maxDelay, int queueCapacity) {
+        return writer(maxBatchSize, maxDelay, queueCapacity, Duration.ofSeconds(5));
+    }
+
+    private GroupCommitEventWriter writer(int maxBatchSize, Duration maxDelay, int queueCapacity,
+                                          Duration writeTimeout) {
+        return new GroupCommitEventWriter(eventRepository, eventStatsRepository, transactionManager,
+                meterRegistry, true, maxBatchSize, maxDelay, queueCapacity, writeTimeout);
+    }
+
+    private static Event event(String title) {
+        return Event.builder()
+                .title(title)
+                .startsAt(STARTS_AT)
+                .endsAt(STARTS_AT.plusHours(1))
+                .createdAt(STARTS_AT.minusDays(1))
+                .updatedAt(STARTS_AT.minusDays(1))
+                .build();
+    }
+
+    private static Event withId(Event event) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .title(event.getTitle())
+                .startsAt(event.getStartsAt())
+                .endsAt(event.getEndsAt())
+                .createdAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListEventsUseCaseTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private ListEventsUseCase listEventsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        listEventsUseCase = new ListEventsUseCase(eventRepository);
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        // Given
+        Event first = event(LocalDateTime.of(2030, 1, 1, 10, 0));
+        Event second = event(LocalDateTime.of(2030, 1, 2, 10, 0));
+        Event third = event(LocalDateTime.of(2030, 1, 3, 10, 0));
+        when(eventRepository.findPage(EventFilter.NONE, null, 3, EventField.ALL)).thenReturn(List.of(first, second, third));
+
+        // When
+        EventPage page = listEventsUseCase.execute(EventFilter.NONE, null, 2);
+
+        // Then
+        assertEquals(List.of(first, second), page.events());
+        assertEquals(EventCursor.of(second), page.nextCursor());
+    }
+
+    @Test
+    void shouldReturnNoCursorOnLastPage() {
+        // Given
+        EventCursor after = new EventCursor(LocalDateTime.of(2030, 1, 1, 10, 0), UUID.randomUUID());
+        Event only = event(LocalDateTime.of(2030, 1, 2, 10, 0));
+        when(eventRepository.findPage(EventFilter.NONE, after, 3, EventField.ALL)).thenReturn(List.of(only));
+
+        // When
+        EventPage page = listEventsUseCase.execute(EventFilter.NONE, after, 2);
+
+        // Then
+        assertEquals(List.of(only), page.events());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void shouldRejectLimitAboveMaximum() {
+        assertThrows(IllegalArgumentException.class,
+                () -> listEventsUseCase.execute(EventFilter.NONE, null, ListEventsUseCase.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void shouldRejectWindowEndingBeforeItStarts() {
+        // Given
+        EventFilter filter = new EventFilter(
+                LocalDateTime.of(2030, 1, 2, 0, 0), LocalDateTime.of(2030, 1, 1, 0, 0), null, null, null);
+
+        // When & Then
+        assertThrows(EventValidationException.class, () -> listEventsUseCase.execute(filter, null, 10));
+    }
+
+    private Event event(LocalDateTime startsAt) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .title("Event")
+                .startsAt(startsAt)
+                .endsAt(startsAt.plusHours(1))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
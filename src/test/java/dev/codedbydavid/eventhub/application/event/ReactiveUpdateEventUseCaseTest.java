@@ -0,0 +1,140 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventNotFoundException;
+import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventRepository;
+import dev.codedbydavid.eventhub.domain.event.ReactiveEventStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveUpdateEventUseCaseTest {
+
+    private static final LocalDateTime STARTS_AT = LocalDateTime.of(2030, 5, 1, 10, 0);
+
+    @Mock
+    private ReactiveEventRepository eventRepository;
+
+    @Mock
+    private ReactiveEventStatsRepository eventStatsRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private ReactiveUpdateEventUseCase updateEventUseCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        updateEventUseCase = new ReactiveUpdateEventUseCase(eventRepository, eventStatsRepository,
+                transactionalOperator);
+    }
+
+    @Test
+    void shouldReapplyPatchOnLatestStateAfterConflict() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(eventRepository.findById(id))
+                .thenReturn(Mono.just(event(id, "Old", 0)))
+                .thenReturn(Mono.just(event(id, "Concurrent", 1)));
+        when(eventRepository.save(any(Event.class)))
+                .thenReturn(Mono.error(new EventVersionConflictException(id, 0)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        Event result = updateEventUseCase.execute(id, new EventPatch(null, null, null, true), null).block();
+
+        // Then
+        assertNotNull(result);
+        assertEquals("Concurrent", result.getTitle());
+        assertEquals(1, result.getVersion());
+        assertNull(result.getEndsAt());
+        verify(eventRepository, times(2)).save(any(Event.class));
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(eventRepository.findById(id)).thenReturn(Mono.just(event(id, "Old", 0)));
+        when(eventRepository.save(any(Event.class))).thenReturn(Mono.error(new EventVersionConflictException(id, 0)));
+
+        // When / Then
+        Mono<Event> update = updateEventUseCase.execute(id, new EventPatch("New", null, null, false), null);
+        assertThrows(EventVersionConflictException.class, update::block);
+        verify(eventRepository, times(UpdateEventUseCase.MAX_ATTEMPTS)).save(any(Event.class));
+    }
+
+    @Test
+    void shouldRejectAPinnedVersionThatNoLongerMatches() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(eventRepository.findById(id)).thenReturn(Mono.just(event(id, "Old", 5)));
+
+        // When / Then
+        Mono<Event> update = updateEventUseCase.execute(id, new EventPatch("New", null, null, false), 4L);
+        assertThrows(EventVersionConflictException.class, update::block);
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    void shouldMoveTheDailyCountWhenTheDayChanges() {
+        // Given
+        UUID id = UUID.randomUUID();
+        LocalDateTime nextDay = STARTS_AT.plusDays(1);
+        when(eventRepository.findById(id)).thenReturn(Mono.just(event(id, "Old", 0)));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(eventStatsRepository.incrementDailyCount(any(), anyLong())).thenReturn(Mono.empty());
+
+        // When
+        updateEventUseCase.execute(id, new EventPatch(null, nextDay, nextDay.plusHours(1), false), null).block();
+
+        // Then
+        verify(eventStatsRepository).incrementDailyCount(STARTS_AT.toLocalDate(), -1);
+        verify(eventStatsRepository).incrementDailyCount(nextDay.toLocalDate(), 1);
+    }
+
+    @Test
+    void shouldReportMissingAndInvalidEventsAsErrors() {
+        // Given
+        UUID missing = UUID.randomUUID();
+        UUID existing = UUID.randomUUID();
+        when(eventRepository.findById(missing)).thenReturn(Mono.empty());
+        when(eventRepository.findById(existing)).thenReturn(Mono.just(event(existing, "Old", 0)));
+
+        // When / Then
+        Mono<Event> notFound = updateEventUseCase.execute(missing, new EventPatch("New", null, null, false), null);
+        assertThrows(EventNotFoundException.class, notFound::block);
+        Mono<Event> invalid = updateEventUseCase.execute(existing,
+                new EventPatch(null, null, STARTS_AT.minusHours(1), false), null);
+        assertThrows(EventValidationException.class, invalid::block);
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    private static Event event(UUID id, String title, long version) {
+        return Event.builder()
+                .id(id)
+                .title(title)
+                .startsAt(STARTS_AT)
+                .endsAt(STARTS_AT.plusHours(1))
+                .createdAt(STARTS_AT.minusDays(1))
+                .updatedAt(STARTS_AT.minusDays(1))
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import dev.codedbydavid.eventhub.domain.event.EventValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShiftEventsUseCaseTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 5, 1, 0, 0);
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2030, 5, 3, 0, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ShiftEventsUseCase shiftEventsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        shiftEventsUseCase = new ShiftEventsUseCase(eventRepository, eventStatsRepository, transactionManager, 2);
+    }
+
+    @Test
+    void shouldShiftInChunksAndMoveRollupCounts() {
+        // Given: three events, the last one crossing midnight when shifted
+        Duration shift = Duration.ofHours(1);
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(eventRepository.findIdsStartingBetween(FROM, BEFORE, null, 2)).thenReturn(ids.subList(0, 2));
+        when(eventRepository.findIdsStartingBetween(FROM, BEFORE, ids.get(1), 2)).thenReturn(ids.subList(2, 3));
+        when(eventRepository.shiftStartingBetween(anyCollection(), eq(FROM), eq(BEFORE), eq(shift), any()))
+                .thenAnswer(invocation -> {
+                    Collection<UUID> chunk = invocation.getArgument(0);
+                    return chunk.stream()
+                            .map(id -> shifted(id, id.equals(ids.get(2))
+                                    ? LocalDateTime.of(2030, 5, 2, 0, 30)
+                                    : LocalDateTime.of(2030, 5, 1, 11, 0)))
+                            .toList();
+                });
+
+        // When
+        BulkResult result = shiftEventsUseCase.execute(FROM, BEFORE, shift);
+
+        // Then
+        assertEquals(new BulkResult(3, 2), result);
+        verify(eventRepository).shiftStartingBetween(eq(ids.subList(0, 2)), eq(FROM), eq(BEFORE), eq(shift), any());
+        verify(eventRepository).shiftStartingBetween(eq(ids.subList(2, 3)), eq(FROM), eq(BEFORE), eq(shift), any());
+        verify(eventStatsRepository).incrementDailyCount(LocalDate.of(2030, 5, 1), -1);
+        verify(eventStatsRepository).incrementDailyCount(LocalDate.of(2030, 5, 2), 1);
+        verifyNoMoreInteractions(eventStatsRepository);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void shouldWalkPastEventsTheShiftKeepsInRange() {
+        // Given: a full chunk whose events stay in the range after the shift, then nothing after the last id
+        Duration shift = Duration.ofMinutes(5);
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(eventRepository.findIdsStartingBetween(FROM, BEFORE, null, 2)).thenReturn(ids);
+        when(eventRepository.findIdsStartingBetween(FROM, BEFORE, ids.get(1), 2)).thenReturn(List.of());
+        when(eventRepository.shiftStartingBetween(eq(ids), eq(FROM), eq(BEFORE), eq(shift), any()))
+                .thenReturn(ids.stream().map(id -> shifted(id, LocalDateTime.of(2030, 5, 1, 10, 5))).toList());
+        when(eventRepository.shiftStartingBetween(eq(List.of()), eq(FROM), eq(BEFORE), eq(shift), any()))
+                .thenReturn(List.of());
+
+        // When
+        BulkResult result = shiftEventsUseCase.execute(FROM, BEFORE, shift);
+
+        // Then: each event moved exactly once
+        assertEquals(new BulkResult(2, 1), result);
+        verify(eventRepository, times(1)).shiftStartingBetween(eq(ids), eq(FROM), eq(BEFORE), eq(shift), any());
+    }
+
+    @Test
+    void shouldRejectInvalidRangeOrShift() {
+        assertThrows(EventValidationException.class,
+                () -> shiftEventsUseCase.execute(BEFORE, FROM, Duration.ofHours(1)));
+        assertThrows(EventValidationException.class,
+                () -> shiftEventsUseCase.execute(FROM, BEFORE, Duration.ZERO));
+        assertThrows(EventValidationException.class,
+                () -> shiftEventsUseCase.execute(FROM, BEFORE, Duration.ofNanos(1)));
+        verifyNoInteractions(eventRepository);
+    }
+
+    private static Event shifted(UUID id, LocalDateTime startsAt) {
+        return Event.builder()
+                .id(id)
+                .title("Shifted")
+                .startsAt(startsAt)
+                .endsAt(startsAt.plusHours(1))
+                .createdAt(FROM)
+                .updatedAt(FROM)
+                .version(1)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package dev.codedbydavid.eventhub.application.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import dev.codedbydavid.eventhub.domain.event.EventStatsRepository;
+import dev.codedbydavid.eventhub.domain.event.EventVersionConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateEventUseCaseTest {
+
+    private static final LocalDateTime STARTS_AT = LocalDateTime.of(2030, 5, 1, 10, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    private UpdateEventUseCase updateEventUseCase;
+
+    @BeforeEach
+    void setUp() {
+        updateEventUseCase = new UpdateEventUseCase(eventRepository, eventStatsRepository);
+    }
+
+    @Test
+    void shouldReapplyPatchOnLatestStateAfterConflict() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(eventRepository.findById(id)).thenReturn(Optional.of(event(id, "Old", 0)));
+        when(eventRepository.findCurrentById(id)).thenReturn(Optional.of(event(id, "Concurrent", 1)));
+        when(eventRepository.save(any(Event.class)))
+                .thenThrow(new EventVersionConflictException(id, 0))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Event result = updateEventUseCase.execute(id, new EventPatch(null, null, null, true), null);
+
+        // Then
+        assertEquals("Concurrent", result.getTitle());
+        assertEquals(1, result.getVersion());
+        assertNull(result.getEndsAt());
+        verify(eventRepository, times(2)).save(any(Event.class));
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(eventRepository.findById(id)).thenReturn(Optional.of(event(id, "Old", 0)));
+        when(eventRepository.findCurrentById(id)).thenReturn(Optional.of(event(id, "Old", 1)));
+        when(eventRepository.save(any(Event.class))).thenThrow(new EventVersionConflictException(id, 1));
+
+        // When / Then
+        assertThrows(EventVersionConflictException.class,
+                () -> updateEventUseCase.execute(id, new EventPatch("New", null, null, false), null));
+        verify(eventRepository, times(UpdateEventUseCase.MAX_ATTEMPTS)).save(any(Event.class));
+    }
+
+    @Test
+    void shouldNotRetryWhenVersionIsPinned() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(eventRepository.findById(id)).thenReturn(Optional.of(event(id, "Old", 4)));
+        when(eventRepository.save(any(Event.class))).thenThrow(new EventVersionConflictException(id, 4));
+
+        // When / Then
+        assertThrows(EventVersionConflictException.class,
+                () -> updateEventUseCase.execute(id, new EventPatch("New", null, null, false), 4L));
+        verify(eventRepository).save(argThat(event -> event.getVersion() == 4));
+        verify(eventRepository, never()).findCurrentById(id);
+    }
+
+    @Test
+    void shouldConfirmVersionMismatchAgainstLatestState() {
+        // Given: the first read lags behind the version the client already saw
+        UUID id = UUID.randomUUID();
+        when(eventRepository.findById(id)).thenReturn(Optional.of(event(id, "Old", 2)));
+        when(eventRepository.findCurrentById(id)).thenReturn(Optional.of(event(id, "Seen", 3)));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Event result = updateEventUseCase.execute(id, new EventPatch("New", null, null, false), 3L);
+
+        // Then
+        assertEquals("New", result.getTitle());
+        assertEquals(3, result.getVersion());
+    }
+
+    @Test
+    void shouldRejectMismatchOnLatestStateWithoutSaving() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(eventRepository.findById(id)).thenReturn(Optional.of(event(id, "Old", 5)));
+        when(eventRepository.findCurrentById(id)).thenReturn(Optional.of(event(id, "Old", 5)));
+
+        // When / Then
+        assertThrows(EventVersionConflictException.class,
+                () -> updateEventUseCase.execute(id, new EventPatch("New", null, null, false), 3L));
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    private static Event event(UUID id, String title, long version) {
+        return Event.builder()
+                .id(id)
+                .title(title)
+                .startsAt(STARTS_AT)
+                .endsAt(STARTS_AT.plusHours(1))
+                .createdAt(STARTS_AT.minusDays(1))
+                .updatedAt(STARTS_AT.minusDays(1))
+                .version(version)
+                .build();
+    }
+}
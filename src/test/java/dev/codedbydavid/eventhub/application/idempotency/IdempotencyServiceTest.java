@@ -0,0 +1,225 @@
+package dev.codedbydavid.eventhub.application.idempotency;
+
+import dev.codedbydavid.eventhub.infrastructure.cache.idempotency.InMemoryIdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+
+    private static final byte[] PAYLOAD = "{\"title\":\"A\"}".getBytes(StandardCharsets.UTF_8);
+    private static final String CLIENT = "key:client-a";
+    private static final String STORE_KEY = IdempotencyService.storeKey(CLIENT, "key-1");
+
+    private IdempotencyStore store;
+    private IdempotencyService service;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore(100, new SimpleMeterRegistry());
+        service = new IdempotencyService(store, Duration.ofHours(1), Duration.ofSeconds(5), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void shouldReplayStoredResponseForLaterDuplicates() {
+        // When
+        IdempotencyService.Outcome first = service.execute(CLIENT, "key-1", PAYLOAD, this::created);
+        IdempotencyService.Outcome second = service.execute(CLIENT, "key-1", PAYLOAD, this::created);
+
+        // Then
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertSame(first.response(), second.response());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void shouldKeepTheSameKeyOfDifferentClientsApart() {
+        // Given
+        service.execute(CLIENT, "key-1", PAYLOAD, this::created);
+
+        // When
+        IdempotencyService.Outcome other = service.execute("ip:10.0.0.9", "key-1",
+                "{\"title\":\"B\"}".getBytes(StandardCharsets.UTF_8), this::created);
+
+        // Then
+        assertFalse(other.replayed());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void shouldRejectKeyReusedWithDifferentPayload() {
+        // Given
+        service.execute(CLIENT, "key-1", PAYLOAD, this::created);
+
+        // When / Then
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> service.execute(CLIENT, "key-1", "{\"title\":\"B\"}".getBytes(StandardCharsets.UTF_8),
+                        this::created));
+    }
+
+    @Test
+    void shouldLetConcurrentDuplicatesWaitForTheInFlightRequest() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<IdempotencyService.Outcome> original = CompletableFuture.supplyAsync(
+                () -> service.execute(CLIENT, "key-1", PAYLOAD, () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+        started.await();
+
+        // When
+        CompletableFuture<IdempotencyService.Outcome> duplicate = CompletableFuture.supplyAsync(
+                () -> service.execute(CLIENT, "key-1", PAYLOAD, this::created));
+        release.countDown();
+
+        // Then
+        assertSame(original.get().response(), duplicate.get().response());
+        assertTrue(duplicate.get().replayed());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void shouldWaitForRequestInFlightOnAnotherInstance() {
+        // Given: claimed through the shared store, not through this service
+        store.claim(STORE_KEY, IdempotencyService.fingerprint(PAYLOAD), "elsewhere", Instant.now().plusSeconds(60));
+        IdempotentResponse elsewhere = new IdempotentResponse(201, "\"x-0\"", new byte[]{1});
+        CompletableFuture.runAsync(() -> {
+            sleep(100);
+            store.complete(STORE_KEY, "elsewhere", elsewhere, Instant.now().plusSeconds(60));
+        });
+
+        // When
+        IdempotencyService.Outcome outcome = service.execute(CLIENT, "key-1", PAYLOAD, this::created);
+
+        // Then
+        assertSame(elsewhere, outcome.response());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void shouldGiveUpWaitingAfterTimeout() {
+        // Given
+        IdempotencyService impatient = new IdempotencyService(store, Duration.ofHours(1), Duration.ofMillis(100),
+                Duration.ofSeconds(30));
+        store.claim(STORE_KEY, IdempotencyService.fingerprint(PAYLOAD), "elsewhere", Instant.now().plusSeconds(60));
+
+        // When / Then
+        assertThrows(IdempotencyKeyInProgressException.class,
+                () -> impatient.execute(CLIENT, "key-1", PAYLOAD, this::created));
+        impatient.close();
+    }
+
+    @Test
+    void shouldKeepTheKeyWhileARequestRunsLongerThanTheLease() throws Exception {
+        // Given: two instances sharing the store, the first one slower than the lease
+        IdempotencyService first = new IdempotencyService(store, Duration.ofHours(1), Duration.ofMillis(100),
+                Duration.ofMillis(200));
+        IdempotencyService second = new IdempotencyService(store, Duration.ofHours(1), Duration.ofMillis(100),
+                Duration.ofMillis(200));
+        CompletableFuture<IdempotencyService.Outcome> slow = CompletableFuture.supplyAsync(
+                () -> first.execute(CLIENT, "key-1", PAYLOAD, () -> {
+                    sleep(800);
+                    return created();
+                }));
+        sleep(500);
+
+        // When: a duplicate arrives on the other instance well after the original lease would have expired
+        assertThrows(IdempotencyKeyInProgressException.class,
+                () -> second.execute(CLIENT, "key-1", PAYLOAD, this::created));
+        IdempotencyService.Outcome original = slow.get();
+        IdempotencyService.Outcome replay = second.execute(CLIENT, "key-1", PAYLOAD, this::created);
+
+        // Then
+        assertEquals(1, executions.get());
+        assertTrue(replay.replayed());
+        assertSame(original.response(), replay.response());
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void shouldNotLetAnOwnerWhoseLeaseWasTakenOverTouchTheKey() {
+        // Given: the first owner's lease ran out and another request claimed the key
+        String fingerprint = IdempotencyService.fingerprint(PAYLOAD);
+        store.claim(STORE_KEY, fingerprint, "stale", Instant.now().minusSeconds(1));
+        assertTrue(store.claim(STORE_KEY, fingerprint, "current", Instant.now().plusSeconds(60)).isEmpty());
+        IdempotentResponse late = new IdempotentResponse(201, "\"late-0\"", new byte[]{1});
+
+        // When
+        boolean completed = store.complete(STORE_KEY, "stale", late, Instant.now().plusSeconds(60));
+        store.release(STORE_KEY, "stale");
+
+        // Then
+        assertFalse(completed);
+        IdempotencyRecord record = store.find(STORE_KEY).orElseThrow();
+        assertEquals("current", record.owner());
+        assertFalse(record.completed());
+    }
+
+    @Test
+    void shouldReleaseKeyWhenTheRequestFails() {
+        // Given
+        assertThrows(IllegalStateException.class, () -> service.execute(CLIENT, "key-1", PAYLOAD, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // When
+        IdempotencyService.Outcome retry = service.execute(CLIENT, "key-1", PAYLOAD, this::created);
+
+        // Then
+        assertFalse(retry.replayed());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void shouldRejectMalformedKeys() {
+        assertThrows(InvalidIdempotencyKeyException.class, () -> service.execute(CLIENT, " ", PAYLOAD, this::created));
+        assertThrows(InvalidIdempotencyKeyException.class,
+                () -> service.execute(CLIENT, "a b", PAYLOAD, this::created));
+        assertThrows(InvalidIdempotencyKeyException.class,
+                () -> service.execute(CLIENT, "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1), PAYLOAD,
+                        this::created));
+    }
+
+    private IdempotentResponse created() {
+        executions.incrementAndGet();
+        return new IdempotentResponse(201, "\"id-0\"", "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BloomFilteredEventRepositoryTest {
+
+    private static final long NOW_MILLIS = 1_900_000_000_000L;
+    private static final Duration MARGIN = Duration.ofMinutes(1);
+
+    @Mock
+    private EventRepository delegate;
+
+    private final AtomicLong clock = new AtomicLong(NOW_MILLIS);
+    private SimpleMeterRegistry meterRegistry;
+    private BloomFilteredEventRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new BloomFilteredEventRepository(delegate, 1_000, 0.01, MARGIN, clock::get, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void shouldPassThroughUntilFirstBuild() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        // When
+        repository.findById(id);
+
+        // Then
+        verify(delegate).findById(id);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRejectUnknownIdsWithoutQueryingDelegate() {
+        // Given
+        UUID existing = UUID.randomUUID();
+        doAnswer(invocation -> {
+            ((Consumer<UUID>) invocation.getArgument(0)).accept(existing);
+            return null;
+        }).when(delegate).forEachId(any());
+        when(delegate.findById(existing)).thenReturn(Optional.of(event(existing)));
+        repository.rebuild();
+
+        // When
+        UUID unknown = UUID.randomUUID();
+        Optional<Event> missing = repository.findById(unknown);
+        repository.deleteById(unknown);
+
+        // Then
+        assertTrue(missing.isEmpty());
+        assertTrue(repository.findById(existing).isPresent());
+        verify(delegate, never()).findById(unknown);
+        verify(delegate, never()).deleteById(unknown);
+        assertEquals(2.0, meterRegistry.get(BloomFilteredEventRepository.METRIC_PREFIX + ".lookups")
+                .tag("result", "absent").counter().count());
+    }
+
+    @Test
+    void shouldAdmitIdsSavedAfterBuild() {
+        // Given
+        repository.rebuild();
+        UUID id = UUID.randomUUID();
+        Event created = event(id);
+        when(delegate.save(any(Event.class))).thenReturn(created);
+        when(delegate.findById(id)).thenReturn(Optional.of(created));
+
+        // When
+        repository.save(created);
+
+        // Then
+        assertEquals(Optional.of(created), repository.findById(id));
+    }
+
+    @Test
+    void shouldQueryDelegateForIdsMintedSinceTheLastScan() {
+        // Given
+        repository.rebuild();
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+        // Created on another instance after the scan, or shortly before it but committed after it
+        UUID createdElsewhere = uuidV7(NOW_MILLIS + 1_000);
+        UUID committedLate = uuidV7(NOW_MILLIS - 30_000);
+        when(delegate.findById(createdElsewhere)).thenReturn(Optional.of(event(createdElsewhere)));
+        when(delegate.findById(committedLate)).thenReturn(Optional.of(event(committedLate)));
+
+        // When
+        Optional<Event> found = repository.findById(createdElsewhere);
+        Optional<Event> foundLate = repository.findById(committedLate);
+
+        // Then
+        assertTrue(found.isPresent());
+        assertTrue(foundLate.isPresent());
+        assertEquals(2.0, meterRegistry.get(BloomFilteredEventRepository.METRIC_PREFIX + ".lookups")
+                .tag("result", "recent").counter().count());
+    }
+
+    @Test
+    void shouldRejectUnknownIdsMintedBeforeTheScanWindow() {
+        // Given
+        repository.rebuild();
+        UUID old = uuidV7(NOW_MILLIS - MARGIN.toMillis() - 1);
+
+        // When
+        Optional<Event> missing = repository.findById(old);
+
+        // Then
+        assertTrue(missing.isEmpty());
+        verify(delegate, never()).findById(old);
+    }
+
+    private static UUID uuidV7(long unixMillis) {
+        return new UUID((unixMillis << 16) | 0x7000L, 0x8000_0000_0000_0000L | ThreadLocalRandom.current().nextLong(1L << 62));
+    }
+
+    private static Event event(UUID id) {
+        LocalDateTime startsAt = LocalDateTime.of(2030, 1, 1, 10, 0);
+        return Event.builder()
+                .id(id)
+                .title("Filtered")
+                .startsAt(startsAt)
+                .endsAt(startsAt.plusHours(1))
+                .createdAt(startsAt)
+                .updatedAt(startsAt)
+                .build();
+    }
+}
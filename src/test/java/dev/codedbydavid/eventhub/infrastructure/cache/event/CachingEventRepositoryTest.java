@@ -0,0 +1,107 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.event;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingEventRepositoryTest {
+
+    @Mock
+    private EventRepository delegate;
+
+    private CachingEventRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingEventRepository(delegate, Caffeine.newBuilder().maximumSize(100).build());
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        Event event = event(UUID.randomUUID(), "Cached");
+        when(delegate.findById(event.getId())).thenReturn(Optional.of(event));
+
+        // When
+        repository.findById(event.getId());
+        Optional<Event> result = repository.findById(event.getId());
+
+        // Then
+        assertEquals(Optional.of(event), result);
+        verify(delegate, times(1)).findById(event.getId());
+    }
+
+    @Test
+    void shouldNotCacheMisses() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        // When
+        repository.findById(id);
+        repository.findById(id);
+
+        // Then
+        verify(delegate, times(2)).findById(id);
+    }
+
+    @Test
+    void shouldEvictOnSaveAndDelete() {
+        // Given
+        UUID id = UUID.randomUUID();
+        Event original = event(id, "Original");
+        Event renamed = event(id, "Renamed");
+        when(delegate.findById(id)).thenReturn(Optional.of(original), Optional.of(renamed), Optional.empty());
+        when(delegate.save(renamed)).thenReturn(renamed);
+
+        // When / Then
+        assertEquals("Original", repository.findById(id).orElseThrow().getTitle());
+        repository.save(renamed);
+        assertEquals("Renamed", repository.findById(id).orElseThrow().getTitle());
+        repository.deleteById(id);
+        assertTrue(repository.findById(id).isEmpty());
+    }
+
+    @Test
+    void shouldAnswerProjectionsFromCachedEvent() {
+        // Given
+        Event event = event(UUID.randomUUID(), "Cached");
+        Set<EventField> fields = Set.of(EventField.ID, EventField.TITLE);
+        when(delegate.findById(event.getId())).thenReturn(Optional.of(event));
+        repository.findById(event.getId());
+
+        // When
+        Optional<Event> result = repository.findById(event.getId(), fields);
+
+        // Then
+        assertEquals(Optional.of(event), result);
+        verify(delegate, never()).findById(event.getId(), fields);
+    }
+
+    private static Event event(UUID id, String title) {
+        LocalDateTime startsAt = LocalDateTime.of(2030, 1, 1, 10, 0);
+        return Event.builder()
+                .id(id)
+                .title(title)
+                .startsAt(startsAt)
+                .endsAt(startsAt.plusHours(1))
+                .createdAt(startsAt)
+                .updatedAt(startsAt)
+                .build();
+    }
+}
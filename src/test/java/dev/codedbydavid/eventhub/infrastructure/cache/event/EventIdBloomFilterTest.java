@@ -0,0 +1,49 @@
+package dev.codedbydavid.eventhub.infrastructure.cache.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventIdBloomFilterTest {
+
+    @Test
+    void shouldNeverRejectAddedIds() {
+        // Given
+        EventIdBloomFilter filter = EventIdBloomFilter.create(10_000, 0.01);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            filter.add(id);
+        }
+
+        // Then
+        assertTrue(ids.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    void shouldKeepFalsePositivesNearConfiguredRate() {
+        // Given
+        EventIdBloomFilter filter = EventIdBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID());
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFpp(), 0.005);
+        assertTrue(filter.memoryBytes() > 0);
+    }
+}
@@ -0,0 +1,141 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void shouldRejectOnceLimitIsInFlight() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0, 0.5);
+
+        // When / Then
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(2, limit.inFlight());
+
+        limit.releaseWithoutSample();
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    void shouldGrowWhileBusyAndLatencyIsSteady() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, 2.0, 0.5);
+
+        // When: saturate the limit repeatedly with fast completions
+        long now = 0;
+        for (int round = 0; round < 50; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(now, now + 10 * MS, false);
+            }
+            now += 10 * MS;
+        }
+
+        // Then
+        assertEquals(10, limit.limit());
+        assertEquals(0, limit.inFlight());
+    }
+
+    @Test
+    void shouldNotGrowWhileMostlyIdle() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 100, 2.0, 0.5);
+
+        // When: one request at a time
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(i * 10 * MS, i * 10 * MS + 5 * MS, false);
+        }
+
+        // Then
+        assertEquals(8, limit.limit());
+    }
+
+    @Test
+    void shouldBackOffOncePerBurstOfSlowCompletions() {
+        // Given: a 10 ms baseline
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 8, 2.0, 0.5);
+        limit.tryAcquire();
+        limit.release(0, 10 * MS, false);
+
+        // When: three requests started together all complete slowly
+        for (int i = 0; i < 3; i++) {
+            limit.tryAcquire();
+        }
+        limit.release(20 * MS, 120 * MS, false);
+        limit.release(20 * MS, 121 * MS, false);
+        limit.release(20 * MS, 122 * MS, false);
+
+        // Then: halved once, not three times
+        assertEquals(4, limit.limit());
+
+        // When: a request started after the decrease is slow too
+        limit.tryAcquire();
+        limit.release(130 * MS, 230 * MS, false);
+
+        // Then
+        assertEquals(2, limit.limit());
+    }
+
+    @Test
+    void shouldNotBackOffWhenTheRequestMixShiftsToSlowerRoutes() {
+        // Given: a long run of 2 ms get-by-id calls
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 8, 2.0, 0.5);
+        long now = 0;
+        for (int i = 0; i < 200; i++) {
+            limit.tryAcquire();
+            limit.release("GET /api/v1/events/{id}", now, now + 2 * MS, false);
+            now += 2 * MS;
+        }
+
+        // When: traffic turns into 40 ms list pages mixed with the same gets, on a healthy database
+        for (int i = 0; i < 200; i++) {
+            limit.tryAcquire();
+            if (i % 3 == 0) {
+                limit.release("GET /api/v1/events/{id}", now, now + 2 * MS, false);
+            } else {
+                limit.release("GET /api/v1/events", now, now + 40 * MS, false);
+            }
+            now += 40 * MS;
+        }
+
+        // Then
+        assertEquals(8, limit.limit());
+
+        // When: a route really does get slower
+        limit.tryAcquire();
+        limit.release("GET /api/v1/events/{id}", now, now + 20 * MS, false);
+
+        // Then
+        assertEquals(4, limit.limit());
+    }
+
+    @Test
+    void shouldBackOffOnOverloadButNotBelowMinimum() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 3, 8, 2.0, 0.5);
+
+        // When: a fast but failed request
+        limit.tryAcquire();
+        limit.release(0, MS, true);
+
+        // Then
+        assertEquals(3, limit.limit());
+    }
+
+    @Test
+    void shouldRejectInconsistentLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(1, 2, 10, 2.0, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(5, 1, 10, 2.0, 1.0));
+    }
+}
@@ -0,0 +1,84 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            new ConcurrencyLimitProperties(true, 1, 1, 1, 1, 1, 2.0, 0.9, Duration.ofSeconds(2)),
+            new JacksonConfig().objectMapper(), meterRegistry);
+
+    @Test
+    void shouldRejectWith503WhenLimitIsReached() throws Exception {
+        // Given: a write in flight while another write arrives
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        FilterChain holdingChain = (request, response) -> {
+            MockHttpServletResponse second = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/events"), second, (rq, rs) -> fail());
+            nested.set(second);
+        };
+
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/events"), first, holdingChain);
+
+        // Then
+        assertEquals(200, first.getStatus());
+        MockHttpServletResponse rejected = nested.get();
+        assertEquals(503, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+        assertEquals("SERVICE_UNAVAILABLE",
+                new ObjectMapper().readTree(rejected.getContentAsByteArray()).get("code").asText());
+        assertEquals(1.0, meterRegistry.get("eventhub.concurrency.rejected").tag("operation", "write")
+                .counter().count());
+        assertEquals(0.0, meterRegistry.get("eventhub.concurrency.in.flight").tag("operation", "write")
+                .gauge().value());
+    }
+
+    @Test
+    void shouldLimitReadsAndWritesSeparately() throws Exception {
+        // Given: a write in flight
+        AtomicReference<Integer> readStatus = new AtomicReference<>();
+        FilterChain holdingChain = (request, response) -> {
+            MockHttpServletResponse read = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/events"), read, (rq, rs) -> { });
+            readStatus.set(read.getStatus());
+        };
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/v1/events/1"), new MockHttpServletResponse(),
+                holdingChain);
+
+        // Then
+        assertEquals(200, readStatus.get());
+    }
+
+    @Test
+    void shouldIgnoreOtherPaths() throws Exception {
+        // Given
+        AtomicReference<Integer> nestedStatus = new AtomicReference<>();
+        FilterChain holdingChain = (request, response) -> {
+            MockHttpServletResponse health = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), health, (rq, rs) -> { });
+            nestedStatus.set(health.getStatus());
+        };
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/events"), new MockHttpServletResponse(),
+                holdingChain);
+
+        // Then
+        assertEquals(200, nestedStatus.get());
+    }
+}
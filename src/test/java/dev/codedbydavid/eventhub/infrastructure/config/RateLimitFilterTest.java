@@ -0,0 +1,97 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.codedbydavid.eventhub.presentation.client.ClientIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(
+            new RateLimitProperties(true, 1_000,
+                    Map.of("write", new RateLimitProperties.Quota(1, Duration.ofMinutes(1)))),
+            new ClientIdentity("X-Api-Key", List.of("client-a", "client-b")),
+            new JacksonConfig().objectMapper(), meterRegistry);
+
+    @Test
+    void shouldRejectWith429OnceQuotaIsUsed() throws Exception {
+        // Given
+        MockHttpServletResponse first = send("POST", "/api/v1/events", "client-a");
+
+        // When
+        MockHttpServletResponse second = send("POST", "/api/v1/events", "client-a");
+
+        // Then
+        assertEquals(200, first.getStatus());
+        assertEquals("1", first.getHeader("RateLimit-Limit"));
+        assertEquals("0", first.getHeader("RateLimit-Remaining"));
+        assertEquals("60", first.getHeader("RateLimit-Reset"));
+
+        assertEquals(429, second.getStatus());
+        assertEquals("60", second.getHeader("Retry-After"));
+        assertEquals("TOO_MANY_REQUESTS",
+                new ObjectMapper().readTree(second.getContentAsByteArray()).get("code").asText());
+        assertEquals(1.0, meterRegistry.get("eventhub.rate.limit.rejected").tag("operation", "write")
+                .counter().count());
+    }
+
+    @Test
+    void shouldKeyByApiKeyAndLeaveUnquotedOperationsAlone() throws Exception {
+        // Given
+        send("POST", "/api/v1/events", "client-a");
+
+        // When
+        MockHttpServletResponse otherClient = send("POST", "/api/v1/events", "client-b");
+        MockHttpServletResponse read = send("GET", "/api/v1/events", "client-a");
+
+        // Then
+        assertEquals(200, otherClient.getStatus());
+        assertEquals(200, read.getStatus());
+        assertNull(read.getHeader("RateLimit-Limit"));
+    }
+
+    @Test
+    void shouldNotGiveRotatedUnknownKeysTheirOwnBucket() throws Exception {
+        // Given
+        send("POST", "/api/v1/events", "rotated-1");
+
+        // When
+        MockHttpServletResponse rotated = send("POST", "/api/v1/events", "rotated-2");
+        MockHttpServletResponse known = send("POST", "/api/v1/events", "client-a");
+
+        // Then
+        assertEquals(429, rotated.getStatus());
+        assertEquals(200, known.getStatus());
+        assertEquals(2.0, meterRegistry.get("eventhub.rate.limit.clients").tag("operation", "write").gauge().value());
+    }
+
+    @Test
+    void shouldClassifyOperations() {
+        assertEquals("bulk", RateLimitFilter.operation(new MockHttpServletRequest("POST", "/api/v1/events:batch")));
+        assertEquals("bulk", RateLimitFilter.operation(
+                new MockHttpServletRequest("POST", "/api/v1/events:bulkUpdate")));
+        MockHttpServletRequest bulkDelete = new MockHttpServletRequest("DELETE", "/api/v1/events");
+        bulkDelete.setParameter("endsBefore", "2030-01-01T00:00:00Z");
+        assertEquals("bulk", RateLimitFilter.operation(bulkDelete));
+        assertEquals("export", RateLimitFilter.operation(new MockHttpServletRequest("GET", "/api/v1/events/export")));
+        assertEquals("read", RateLimitFilter.operation(new MockHttpServletRequest("GET", "/api/v1/events/search")));
+        assertEquals("write", RateLimitFilter.operation(new MockHttpServletRequest("DELETE", "/api/v1/events/1")));
+    }
+
+    private MockHttpServletResponse send(String method, String path, String apiKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader("X-Api-Key", apiKey);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (rq, rs) -> { });
+        return response;
+    }
+}
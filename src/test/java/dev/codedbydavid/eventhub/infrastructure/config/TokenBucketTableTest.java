@@ -0,0 +1,97 @@
+package dev.codedbydavid.eventhub.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTableTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(42 * SECOND);
+
+    @Test
+    void shouldAllowBurstUpToLimitThenReject() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(3, Duration.ofSeconds(3), 100, clock::get);
+
+        // When / Then
+        assertEquals(2, table.tryAcquire("a").remaining());
+        assertEquals(1, table.tryAcquire("a").remaining());
+        TokenBucketTable.Decision last = table.tryAcquire("a");
+        assertTrue(last.allowed());
+        assertEquals(0, last.remaining());
+        assertEquals(3, last.resetSeconds());
+
+        TokenBucketTable.Decision rejected = table.tryAcquire("a");
+        assertFalse(rejected.allowed());
+        assertEquals(3, rejected.limit());
+        assertEquals(1, rejected.retryAfterSeconds());
+    }
+
+    @Test
+    void shouldRefillOverTime() {
+        // Given: an empty bucket refilling one token per second
+        TokenBucketTable table = new TokenBucketTable(2, Duration.ofSeconds(2), 100, clock::get);
+        table.tryAcquire("a");
+        table.tryAcquire("a");
+        assertFalse(table.tryAcquire("a").allowed());
+
+        // When
+        clock.addAndGet(SECOND);
+
+        // Then
+        assertTrue(table.tryAcquire("a").allowed());
+        assertFalse(table.tryAcquire("a").allowed());
+    }
+
+    @Test
+    void shouldKeepClientsIndependent() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1, Duration.ofMinutes(1), 100, clock::get);
+        assertTrue(table.tryAcquire("a").allowed());
+
+        // Then
+        assertFalse(table.tryAcquire("a").allowed());
+        assertTrue(table.tryAcquire("b").allowed());
+    }
+
+    @Test
+    void shouldNeverGrantMoreThanLimitUnderContention() throws Exception {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1_000, Duration.ofHours(1), 100, clock::get);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        if (table.tryAcquire("shared").allowed()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(1_000, granted.get());
+    }
+}
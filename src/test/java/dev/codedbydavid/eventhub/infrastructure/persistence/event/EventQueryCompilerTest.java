@@ -0,0 +1,195 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.domain.event.EventFilter;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventQueryCompilerTest {
+
+    @Test
+    void shouldEmitOnlyOrderingWhenNothingIsFiltered() {
+        // Given
+        int shape = EventQueryCompiler.shapeOf(EventFilter.NONE, null);
+
+        // When
+        String jpql = EventQueryCompiler.jpql(shape);
+
+        // Then
+        assertEquals(0, shape);
+        assertEquals("select e.id, e.title, e.startsAt, e.endsAt, e.createdAt, e.updatedAt, e.version"
+                + " from EventJpaEntity e order by e.startsAt asc, e.id asc", jpql);
+    }
+
+    @Test
+    void shouldReuseTheSameShapeForDifferentValues() {
+        // Given
+        EventFilter first = new EventFilter(LocalDateTime.of(2030, 1, 1, 0, 0), null, "Con", null, null);
+        EventFilter second = new EventFilter(LocalDateTime.of(2031, 6, 1, 0, 0), null, "Meetup", null, null);
+
+        // When & Then
+        assertEquals(EventQueryCompiler.shapeOf(first, null), EventQueryCompiler.shapeOf(second, null));
+        assertSame(EventQueryCompiler.jpql(EventQueryCompiler.shapeOf(first, null)),
+                EventQueryCompiler.jpql(EventQueryCompiler.shapeOf(second, null)));
+    }
+
+    @Test
+    void shouldCombineFilterAndSeekPredicates() {
+        // Given
+        EventFilter filter = new EventFilter(null, LocalDateTime.of(2030, 1, 1, 0, 0), null, null,
+                LocalDateTime.of(2029, 1, 1, 0, 0));
+        EventCursor after = new EventCursor(LocalDateTime.of(2029, 6, 1, 0, 0), UUID.randomUUID());
+
+        // When
+        String jpql = EventQueryCompiler.jpql(EventQueryCompiler.shapeOf(filter, after));
+
+        // Then
+        assertEquals(EventQueryCompiler.SELECT_ALL + " where e.startsAt <= :to and e.updatedAt > :updatedAfter"
+                + " and e.startsAt >= :cursorStartsAt and (e.startsAt > :cursorStartsAt or e.id > :cursorId)"
+                + " order by e.startsAt asc, e.id asc", jpql);
+    }
+
+    @Test
+    void shouldKeepOpenEndedEventsInWindowsStartingAfterThem() {
+        // Given
+        EventFilter filter = new EventFilter(LocalDateTime.of(2030, 1, 1, 0, 0), null, null, null, null);
+
+        // When
+        String jpql = EventQueryCompiler.jpql(EventQueryCompiler.shapeOf(filter, null));
+
+        // Then
+        assertEquals(EventQueryCompiler.SELECT_ALL + " where (e.endsAt is null or e.endsAt >= :from)"
+                + " order by e.startsAt asc, e.id asc", jpql);
+    }
+
+    @Test
+    void shouldRenderTheSameShapesAsSqlForR2dbc() {
+        // Given
+        EventFilter filter = new EventFilter(LocalDateTime.of(2030, 1, 1, 0, 0), null, "Con", null, null);
+        EventCursor after = new EventCursor(LocalDateTime.of(2029, 6, 1, 0, 0), UUID.randomUUID());
+
+        // When
+        String sql = EventQueryCompiler.sql(EventQueryCompiler.shapeOf(filter, after));
+
+        // Then
+        assertEquals(EventQueryCompiler.SQL_SELECT_ALL + " where (ends_at is null or ends_at >= :from)"
+                + " and title like :titlePrefix escape '!'"
+                + " and starts_at >= :cursorStartsAt and (starts_at > :cursorStartsAt or id > :cursorId)"
+                + " order by starts_at asc, id asc limit :limit", sql);
+    }
+
+    @Test
+    void shouldAlwaysProjectKeysetColumnsInCanonicalOrder() {
+        // When
+        List<EventField> columns = EventQueryCompiler.projectedColumns(EnumSet.of(EventField.UPDATED_AT, EventField.TITLE));
+
+        // Then
+        assertEquals(List.of(EventField.ID, EventField.TITLE, EventField.STARTS_AT, EventField.UPDATED_AT, EventField.VERSION),
+                columns);
+    }
+
+    @Test
+    void shouldMapProjectedRowToPartialEvent() {
+        // Given
+        UUID id = UUID.randomUUID();
+        LocalDateTime startsAt = LocalDateTime.of(2030, 1, 1, 10, 0);
+        List<EventField> columns = EventQueryCompiler.projectedColumns(EnumSet.of(EventField.TITLE));
+
+        // When
+        Event event = EventQueryCompiler.toEvent(new Object[]{id, "Sparse", startsAt, 3L}, columns);
+
+        // Then
+        assertEquals(id, event.getId());
+        assertEquals("Sparse", event.getTitle());
+        assertEquals(startsAt, event.getStartsAt());
+        assertEquals(3L, event.getVersion());
+        assertNull(event.getUpdatedAt());
+        assertNull(event.getEndsAt());
+        assertNull(event.getCreatedAt());
+    }
+
+    @Test
+    void shouldMapFullRowsPositionally() {
+        // Given
+        UUID id = UUID.randomUUID();
+        LocalDateTime startsAt = LocalDateTime.of(2030, 1, 1, 10, 0);
+        Object[] row = {id, "Full", startsAt, startsAt.plusHours(1), startsAt.minusDays(2), startsAt.minusDays(1), 5L};
+
+        // When
+        List<Event> events = EventQueryCompiler.toEvents(List.<Object[]>of(row, row), EventQueryCompiler.ALL_COLUMNS);
+
+        // Then
+        assertEquals(2, events.size());
+        Event event = events.get(0);
+        assertEquals(id, event.getId());
+        assertEquals("Full", event.getTitle());
+        assertEquals(startsAt, event.getStartsAt());
+        assertEquals(startsAt.plusHours(1), event.getEndsAt());
+        assertEquals(startsAt.minusDays(2), event.getCreatedAt());
+        assertEquals(startsAt.minusDays(1), event.getUpdatedAt());
+        assertEquals(5L, event.getVersion());
+    }
+
+    @Test
+    void shouldMapFullRowsTheSameWayAsTheColumnDrivenMapping() {
+        // Given
+        UUID id = UUID.randomUUID();
+        LocalDateTime startsAt = LocalDateTime.of(2030, 1, 1, 10, 0);
+        Object[] row = {id, "Full", startsAt, startsAt.plusHours(1), startsAt.minusDays(2), startsAt.minusDays(1), 5L};
+
+        // When
+        Event positional = EventQueryCompiler.toEvent(row);
+        Event byColumn = EventQueryCompiler.toEvent(row, EventQueryCompiler.ALL_COLUMNS);
+
+        // Then
+        // The fast path hard-codes positions, so the full select list must stay in declaration order
+        assertEquals(List.of(EventField.values()), EventQueryCompiler.ALL_COLUMNS);
+        assertSameFields(byColumn, positional);
+    }
+
+    @Test
+    void shouldMapSparseRowsByColumnWhenMappingAList() {
+        // Given
+        UUID id = UUID.randomUUID();
+        LocalDateTime startsAt = LocalDateTime.of(2030, 1, 1, 10, 0);
+        LocalDateTime endsAt = startsAt.plusHours(2);
+        List<EventField> columns = EventQueryCompiler.projectedColumns(EnumSet.of(EventField.ENDS_AT));
+        Object[] row = {id, startsAt, endsAt, 4L};
+
+        // When
+        List<Event> events = EventQueryCompiler.toEvents(List.<Object[]>of(row), columns);
+
+        // Then
+        Event event = events.get(0);
+        assertEquals(id, event.getId());
+        assertEquals(startsAt, event.getStartsAt());
+        assertEquals(endsAt, event.getEndsAt());
+        assertEquals(4L, event.getVersion());
+        assertNull(event.getTitle());
+        assertNull(event.getCreatedAt());
+        assertNull(event.getUpdatedAt());
+    }
+
+    @Test
+    void shouldEscapeLikeWildcardsInTitlePrefix() {
+        assertEquals("50!% off!_!!", EventQueryCompiler.escapeLike("50% off_!"));
+    }
+
+    private static void assertSameFields(Event expected, Event actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getStartsAt(), actual.getStartsAt());
+        assertEquals(expected.getEndsAt(), actual.getEndsAt());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getVersion(), actual.getVersion());
+    }
+}
@@ -0,0 +1,35 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveEventPersistenceConfigTest {
+
+    @Test
+    void shouldDerivePostgresUrlWithoutJdbcOnlyParameters() {
+        // When
+        String url = ReactiveEventPersistenceConfig.r2dbcUrl("jdbc:postgresql://db:5432/eventhub?loggerLevel=OFF");
+
+        // Then
+        assertEquals("r2dbc:postgresql://db:5432/eventhub", url);
+    }
+
+    @Test
+    void shouldDeriveInMemoryH2UrlKeepingItsSettings() {
+        // When
+        String url = ReactiveEventPersistenceConfig.r2dbcUrl(
+                "jdbc:h2:mem:eventhubdb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+
+        // Then
+        assertEquals("r2dbc:h2:mem:///eventhubdb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", url);
+    }
+
+    @Test
+    void shouldAskForAnExplicitUrlOtherwise() {
+        // When / Then
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> ReactiveEventPersistenceConfig.r2dbcUrl("jdbc:mysql://db:3306/eventhub"));
+        assertTrue(ex.getMessage().contains("eventhub.reactive.r2dbc.url"));
+    }
+}
@@ -0,0 +1,100 @@
+package dev.codedbydavid.eventhub.infrastructure.persistence.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void shouldEncodeTimestampVersionAndVariant() {
+        // Given
+        long millis = 0x0192_3456_789AL;
+        UuidV7Generator generator = new UuidV7Generator(() -> millis);
+
+        // When
+        UUID id = generator.next();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(millis, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void shouldIncreaseWithinAMillisecondAndWhenClockStepsBack() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+        // When
+        UUID first = generator.next();
+        UUID second = generator.next();
+        clock.addAndGet(-5);
+        UUID third = generator.next();
+        clock.addAndGet(10);
+        UUID fourth = generator.next();
+
+        // Then
+        assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+        assertTrue(Long.compareUnsigned(second.getMostSignificantBits(), third.getMostSignificantBits()) < 0);
+        assertTrue(Long.compareUnsigned(third.getMostSignificantBits(), fourth.getMostSignificantBits()) < 0);
+        assertEquals(clock.get(), fourth.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void shouldCarryCounterOverflowIntoTheNextMillisecond() {
+        // Given
+        long millis = 1_700_000_000_000L;
+        UuidV7Generator generator = new UuidV7Generator(() -> millis);
+
+        // When
+        UUID last = null;
+        for (int i = 0; i <= 4096; i++) {
+            last = generator.next();
+        }
+
+        // Then
+        assertEquals(millis + 1, last.getMostSignificantBits() >>> 16);
+        assertEquals(7, last.version());
+    }
+
+    @Test
+    void shouldHandOutUniqueOrderedIdsAcrossThreads() throws InterruptedException {
+        // Given
+        UuidV7Generator generator = new UuidV7Generator(System::currentTimeMillis);
+        Set<UUID> all = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        Set<String> failures = ConcurrentHashMap.newKeySet();
+
+        // When
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                long previous = 0;
+                for (int i = 0; i < 20_000; i++) {
+                    UUID id = generator.next();
+                    if (Long.compareUnsigned(previous, id.getMostSignificantBits()) >= 0) {
+                        failures.add("not increasing: " + id);
+                    }
+                    previous = id.getMostSignificantBits();
+                    all.add(id);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(Set.of(), new HashSet<>(failures));
+        assertEquals(80_000, all.size());
+    }
+}
@@ -0,0 +1,35 @@
+package dev.codedbydavid.eventhub.presentation.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientIdentityTest {
+
+    private final ClientIdentity clientIdentity = new ClientIdentity("X-Api-Key", List.of("known"));
+
+    @Test
+    void shouldIdentifyKnownKeysByKey() {
+        assertEquals("key:known", clientIdentity.of(request("10.0.0.1", "known")));
+        assertEquals("key:known", clientIdentity.of(request("10.0.0.2", "known")));
+    }
+
+    @Test
+    void shouldIdentifyUnknownOrMissingKeysByRemoteAddress() {
+        assertEquals("ip:10.0.0.1", clientIdentity.of(request("10.0.0.1", "made-up")));
+        assertEquals("ip:10.0.0.1", clientIdentity.of(request("10.0.0.1", "made-up-too")));
+        assertEquals("ip:10.0.0.1", clientIdentity.of(request("10.0.0.1", null)));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/events");
+        request.setRemoteAddr(remoteAddress);
+        if (apiKey != null) {
+            request.addHeader("X-Api-Key", apiKey);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedPageCacheTest {
+
+    private final CompressedPageCache cache = new CompressedPageCache(new SimpleMeterRegistry(), 1 << 20,
+            DataSize.ofBytes(100));
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    void shouldCompressOncePerTag() throws Exception {
+        // Given
+        byte[] page = "[{\"title\":\"compressible\"}]".repeat(20).getBytes(StandardCharsets.UTF_8);
+        Supplier<byte[]> render = () -> {
+            renders.incrementAndGet();
+            return page;
+        };
+
+        // When
+        CompressedPageCache.Body first = cache.body("\"p-1\"", "gzip, deflate, br", render);
+        CompressedPageCache.Body second = cache.body("\"p-1\"", "gzip", render);
+
+        // Then
+        assertTrue(first.gzip());
+        assertTrue(first.bytes().length < page.length);
+        assertSame(first.bytes(), second.bytes());
+        assertEquals(1, renders.get());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(second.bytes()))) {
+            assertArrayEquals(page, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldSendIdentityWhenNotAcceptedOrTooSmall() {
+        // Given
+        byte[] large = new byte[500];
+        byte[] small = new byte[10];
+
+        // Then
+        assertFalse(cache.body("\"p-2\"", null, () -> large).gzip());
+        assertFalse(cache.body("\"p-2\"", "br", () -> large).gzip());
+        assertFalse(cache.body("\"p-2\"", "gzip;q=0", () -> large).gzip());
+        CompressedPageCache.Body tiny = cache.body("\"p-3\"", "gzip", () -> small);
+        assertFalse(tiny.gzip());
+        assertSame(small, tiny.bytes());
+    }
+
+    @Test
+    void shouldParseAcceptEncoding() {
+        assertTrue(CompressedPageCache.acceptsGzip("GZIP"));
+        assertTrue(CompressedPageCache.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(CompressedPageCache.acceptsGzip("x-gzip"));
+        assertFalse(CompressedPageCache.acceptsGzip("identity"));
+        assertFalse(CompressedPageCache.acceptsGzip("gzip;q=0.0"));
+    }
+
+    @Test
+    void shouldTagTheGzippedRepresentationSeparately() {
+        assertEquals("\"p-1+gzip\"", CompressedPageCache.tag("\"p-1\""));
+        assertEquals("\"p-1+cbor+gzip\"", CompressedPageCache.tag("\"p-1+cbor\""));
+    }
+}
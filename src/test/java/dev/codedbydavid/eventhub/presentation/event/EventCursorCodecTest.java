@@ -0,0 +1,32 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.presentation.exception.InvalidQueryParameterException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventCursorCodecTest {
+
+    @Test
+    void shouldRoundTripCursor() {
+        // Given
+        EventCursor cursor = new EventCursor(LocalDateTime.of(2030, 1, 1, 10, 0, 0, 123_456_000), UUID.randomUUID());
+
+        // When
+        String token = EventCursorCodec.encode(cursor);
+
+        // Then
+        assertEquals(cursor, EventCursorCodec.decode(token));
+        assertTrue(token.matches("^[A-Za-z0-9_-]+$"), "token must be URL-safe");
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(InvalidQueryParameterException.class, () -> EventCursorCodec.decode("not a cursor"));
+        assertThrows(InvalidQueryParameterException.class, () -> EventCursorCodec.decode("AAAA"));
+    }
+}
@@ -0,0 +1,100 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import dev.codedbydavid.eventhub.application.event.EventPage;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.domain.event.EventCursor;
+import dev.codedbydavid.eventhub.domain.event.EventField;
+import dev.codedbydavid.eventhub.presentation.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventETagsTest {
+
+    @Test
+    void shouldChangeTagWhenEventIsUpdated() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        String before = EventETags.of(event(id, 0));
+        String after = EventETags.of(event(id, 1));
+
+        // Then
+        assertEquals("\"" + id + "-0\"", before);
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void shouldGiveSparseBodiesTheirOwnTag() {
+        // Given
+        Event event = event(UUID.randomUUID(), 0);
+
+        // Then
+        assertEquals(EventETags.of(event), EventETags.of(event, EventField.ALL));
+        assertNotEquals(EventETags.of(event), EventETags.of(event, EnumSet.of(EventField.ID, EventField.TITLE)));
+    }
+
+    @Test
+    void shouldHashPageContentAndContinuation() {
+        // Given
+        Event first = event(UUID.randomUUID(), 0);
+        Event second = event(UUID.randomUUID(), 0);
+        EventPage lastPage = new EventPage(List.of(first, second), null);
+        EventPage morePages = new EventPage(List.of(first, second), EventCursor.of(second));
+        EventPage touched = new EventPage(List.of(first, event(second.getId(), 1)), null);
+
+        // Then
+        assertEquals(EventETags.of(lastPage, EventField.ALL), EventETags.of(new EventPage(List.of(first, second), null), EventField.ALL));
+        assertNotEquals(EventETags.of(lastPage, EventField.ALL), EventETags.of(morePages, EventField.ALL));
+        assertNotEquals(EventETags.of(lastPage, EventField.ALL), EventETags.of(touched, EventField.ALL));
+        assertNotEquals(EventETags.of(lastPage, EventField.ALL), EventETags.of(lastPage, EnumSet.of(EventField.ID)));
+    }
+
+    @Test
+    void shouldCompareWeaklyForIfNoneMatch() {
+        String etag = "\"abc\"";
+
+        assertTrue(EventETags.noneMatchHit("\"x\", W/\"abc\"", etag));
+        assertTrue(EventETags.noneMatchHit("*", etag));
+        assertFalse(EventETags.noneMatchHit(null, etag));
+        assertFalse(EventETags.noneMatchHit("\"x\"", etag));
+    }
+
+    @Test
+    void shouldReadExpectedVersionFromIfMatch() {
+        // Given
+        UUID id = UUID.randomUUID();
+        String etag = EventETags.of(event(id, 7));
+
+        // Then
+        assertNull(EventETags.expectedVersion(null, id));
+        assertNull(EventETags.expectedVersion("*", id));
+        assertEquals(7L, EventETags.expectedVersion(etag, id));
+        assertEquals(7L, EventETags.expectedVersion("\"other\", " + etag, id));
+        assertEquals(7L, EventETags.expectedVersion(EventEncoding.CBOR.tag(etag), id));
+        assertThrows(PreconditionFailedException.class, () -> EventETags.expectedVersion("W/" + etag, id));
+        assertThrows(PreconditionFailedException.class,
+                () -> EventETags.expectedVersion(EventETags.of(event(UUID.randomUUID(), 7)), id));
+        assertThrows(PreconditionFailedException.class,
+                () -> EventETags.expectedVersion("\"stale\"", id));
+    }
+
+    private static Event event(UUID id, long version) {
+        LocalDateTime startsAt = LocalDateTime.of(2031, 1, 1, 10, 0);
+        return Event.builder()
+                .id(id)
+                .title("Tagged")
+                .startsAt(startsAt)
+                .endsAt(startsAt.plusHours(1))
+                .createdAt(startsAt.minusDays(1))
+                .updatedAt(startsAt.minusDays(1))
+                .version(version)
+                .build();
+    }
+}
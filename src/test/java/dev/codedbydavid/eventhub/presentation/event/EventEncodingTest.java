@@ -0,0 +1,69 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import dev.codedbydavid.eventhub.infrastructure.config.JacksonConfig;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventEncodingTest {
+
+    @Test
+    void shouldDefaultToJson() {
+        assertEquals(EventEncoding.JSON, EventEncoding.negotiate(null));
+        assertEquals(EventEncoding.JSON, EventEncoding.negotiate("*/*"));
+        assertEquals(EventEncoding.JSON, EventEncoding.negotiate("application/*"));
+        assertEquals(EventEncoding.JSON, EventEncoding.negotiate("text/html"));
+        assertEquals(EventEncoding.JSON, EventEncoding.negotiate("not a media type;;"));
+    }
+
+    @Test
+    void shouldPickHighestQualityThenMostSpecific() {
+        assertEquals(EventEncoding.CBOR, EventEncoding.negotiate("application/cbor"));
+        assertEquals(EventEncoding.SMILE, EventEncoding.negotiate("application/json;q=0.5, application/x-jackson-smile"));
+        assertEquals(EventEncoding.CBOR, EventEncoding.negotiate("*/*, application/cbor"));
+        assertEquals(EventEncoding.JSON, EventEncoding.negotiate("application/cbor;q=0.2, application/json"));
+        assertEquals(EventEncoding.JSON, EventEncoding.negotiate("application/cbor;q=0"));
+    }
+
+    @Test
+    void shouldTagEachEncodingSeparately() {
+        assertEquals("\"a-1\"", EventEncoding.JSON.tag("\"a-1\""));
+        assertEquals("\"a-1+cbor\"", EventEncoding.CBOR.tag("\"a-1\""));
+        assertEquals("\"p-x+smile\"", EventEncoding.SMILE.tag("\"p-x\""));
+    }
+
+    @Test
+    void shouldEncodeSameValuesAsJson() throws Exception {
+        // Given
+        JacksonConfig config = new JacksonConfig();
+        CBORMapper cborMapper = config.cborMapper();
+        EventEncodings encodings = new EventEncodings(config.objectMapper(), cborMapper, config.smileMapper());
+        LocalDateTime startsAt = LocalDateTime.of(2030, 5, 6, 7, 8, 9);
+        EventResponse response = new EventResponse(UUID.randomUUID(), "Binary", startsAt, startsAt.plusHours(2),
+                startsAt, startsAt, 4);
+        byte[] json = encodings.event(EventEncoding.JSON, response);
+
+        // When
+        byte[] cbor = encodings.event(EventEncoding.CBOR, response);
+        List<EventResponse> list = cborMapper.readValue(encodings.events(EventEncoding.CBOR, List.of(response)),
+                new TypeReference<>() {
+                });
+        EventResponse decoded = cborMapper.readValue(encodings.fromJson(EventEncoding.CBOR, json), EventResponse.class);
+
+        // Then
+        assertTrue(cbor.length < json.length);
+        assertEquals(1, list.size());
+        assertEquals(response.id(), decoded.id());
+        assertEquals(response.startsAt(), decoded.startsAt());
+        assertEquals(response.endsAt(), decoded.endsAt());
+        assertEquals(4, decoded.version());
+        assertSame(json, encodings.fromJson(EventEncoding.JSON, json));
+    }
+}
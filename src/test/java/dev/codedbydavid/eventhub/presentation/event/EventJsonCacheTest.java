@@ -0,0 +1,77 @@
+package dev.codedbydavid.eventhub.presentation.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.codedbydavid.eventhub.domain.event.Event;
+import dev.codedbydavid.eventhub.infrastructure.config.JacksonConfig;
+import dev.codedbydavid.eventhub.presentation.event.dto.EventResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventJsonCacheTest {
+
+    private ObjectMapper objectMapper;
+    private EventJsonCache cache;
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private final Function<Event, EventResponse> toResponse = event -> {
+        renders.incrementAndGet();
+        return new EventResponse(event.getId(), event.getTitle(), event.getStartsAt(), event.getEndsAt(),
+                event.getCreatedAt(), event.getUpdatedAt(), event.getVersion());
+    };
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        cache = new EventJsonCache(objectMapper, new SimpleMeterRegistry(), 1 << 20);
+    }
+
+    @Test
+    void shouldProduceSameBytesAsObjectMapper() throws Exception {
+        // Given
+        Event event = event(UUID.randomUUID(), 3);
+
+        // When
+        byte[] json = cache.bytes(event, toResponse);
+
+        // Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(toResponse.apply(event)), json);
+    }
+
+    @Test
+    void shouldReuseBytesUntilEventChanges() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        byte[] first = cache.bytes(event(id, 0), toResponse);
+        byte[] second = cache.bytes(event(id, 0), toResponse);
+        byte[] third = cache.bytes(event(id, 1), toResponse);
+
+        // Then
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(2, renders.get());
+    }
+
+    private static Event event(UUID id, long version) {
+        LocalDateTime startsAt = LocalDateTime.of(2031, 1, 1, 10, 0);
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 1, 1, 9, 0).plusMinutes(version);
+        return Event.builder()
+                .id(id)
+                .title("Hot")
+                .startsAt(startsAt)
+                .endsAt(startsAt.plusHours(1))
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .version(version)
+                .build();
+    }
+}
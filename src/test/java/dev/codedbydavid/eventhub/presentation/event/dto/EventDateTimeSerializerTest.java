@@ -0,0 +1,73 @@
+package dev.codedbydavid.eventhub.presentation.event.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.codedbydavid.eventhub.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventDateTimeSerializerTest {
+
+    private static final DateTimeFormatter PATTERN = DateTimeFormatter.ofPattern(EventResponse.DATE_TIME_PATTERN);
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void shouldMatchPatternFormatting() {
+        // Given
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime value = LocalDateTime.of(random.nextInt(1, 10_000), random.nextInt(1, 13),
+                    random.nextInt(1, 29), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    random.nextInt(1_000_000_000));
+
+            // Then
+            assertEquals(PATTERN.format(value), EventDateTimeSerializer.format(value));
+        }
+    }
+
+    @Test
+    void shouldFallBackToPatternOutsideFourDigitYears() {
+        LocalDateTime farFuture = LocalDateTime.of(12345, 6, 7, 8, 9, 10);
+        LocalDateTime yearZero = LocalDateTime.of(0, 1, 1, 0, 0);
+        LocalDateTime beforeYearZero = LocalDateTime.of(-44, 3, 15, 12, 0);
+
+        assertEquals(PATTERN.format(farFuture), EventDateTimeSerializer.format(farFuture));
+        assertEquals(PATTERN.format(yearZero), EventDateTimeSerializer.format(yearZero));
+        assertEquals(PATTERN.format(beforeYearZero), EventDateTimeSerializer.format(beforeYearZero));
+        assertNull(EventDateTimeSerializer.format(null));
+    }
+
+    @Test
+    void shouldSerializeEventResponseExactlyAsBefore() throws Exception {
+        // Given
+        UUID id = UUID.fromString("0190a6e2-7c3b-7a1e-8f00-0123456789ab");
+        LocalDateTime startsAt = LocalDateTime.of(2030, 1, 2, 3, 4, 5, 600_000_000);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 23, 59, 59, 999_999_999);
+        EventResponse response = new EventResponse(id, "Launch \"v2\"", startsAt, null, createdAt, createdAt, 7);
+
+        // When
+        String json = objectMapper.writeValueAsString(response);
+
+        // Then
+        assertEquals("{\"id\":\"0190a6e2-7c3b-7a1e-8f00-0123456789ab\",\"title\":\"Launch \\\"v2\\\"\","
+                + "\"startsAt\":\"2030-01-02T03:04:05\",\"endsAt\":null,"
+                + "\"createdAt\":\"2026-10-17T23:59:59\",\"updatedAt\":\"2026-10-17T23:59:59\",\"version\":7}", json);
+    }
+
+    @Test
+    void shouldStillReadPatternFormattedDates() throws Exception {
+        // When
+        EventResponse response = objectMapper.readValue(
+                "{\"startsAt\":\"2030-01-02T03:04:05\",\"version\":1}", EventResponse.class);
+
+        // Then
+        assertEquals(LocalDateTime.of(2030, 1, 2, 3, 4, 5), response.startsAt());
+    }
+}